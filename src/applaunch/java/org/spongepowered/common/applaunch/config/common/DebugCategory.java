@@ -36,4 +36,9 @@ public class DebugCategory {
                                                          + "WARNING: May drastically decrease server performance. Only set this to 'true' "
                                                          + "to debug a pre-existing issue.")
     public boolean concurrentEntityChecks = false;
+
+    @Setting("startup-trace")
+    @Comment("Records the time, allocations and loaded classes of each startup step, registry and plugin, \n"
+                                                         + "then writes them to 'debug/startup-trace.json' once the game has loaded.")
+    public boolean startupTrace = false;
 }
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class MoveEventCategory {
+
+    @Setting
+    @Comment(
+        "When player move events are fired. Supported values:\n"
+            + "  - PACKET: Fire for every movement packet (the default)\n"
+            + "  - BLOCK: Fire only when the player enters a different block\n"
+            + "  - CHUNK: Fire only when the player enters a different chunk column\n"
+            + "  - REGION: Fire only when the player enters a different 'region-size' sized column\n"
+            + "Anything but PACKET means plugins no longer see movement within a boundary, but\n"
+            + "the check is done before any event is created, so the cost of move events scales\n"
+            + "with boundary crossings instead of packets.")
+    public Threshold threshold = Threshold.PACKET;
+
+    @Setting("region-size")
+    @Comment("The width in blocks of a region column, only used with the 'REGION' threshold.")
+    public int regionSize = 64;
+
+    public enum Threshold {
+        PACKET,
+        BLOCK,
+        CHUNK,
+        REGION
+    }
+}
@@ -113,6 +113,10 @@ public final class OptimizationCategory {
         "are `persistent`. Does not drastically improve performance.")
     public boolean disableScheduledUpdatesForPersistentLeafBlocks = true;
 
+    @Setting("move-event")
+    @Comment("Controls how often player move events are fired.")
+    public final MoveEventCategory moveEvent = new MoveEventCategory();
+
     public OptimizationCategory() {
         // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
         // Because of how early this constructor gets called, we can't use SpongeImplHooks or even Game
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.applaunch.config.common;
 
+import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -50,4 +51,15 @@ public final class TimingsCategory {
 
     @Setting("history-length")
     public int historyLength = 3600;
+
+    @Setting("local-export")
+    @Comment("If 'true', timings reports are written as json and html files to the 'timings' directory \n"
+            + "instead of being uploaded to the timings viewer.")
+    public boolean localExport = false;
+
+    @Setting("rolling-window-interval")
+    @Comment("The length, in seconds, of each window continuously appended to 'timings/rolling.jsonl'. \n"
+            + "Each window holds the time spent per timing handler alongside garbage collection and main thread allocation. \n"
+            + "Set to 0 to disable.")
+    public int rollingWindowInterval = 0;
 }
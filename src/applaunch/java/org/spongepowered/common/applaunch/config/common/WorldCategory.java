@@ -28,8 +28,8 @@
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @ConfigSerializable
@@ -51,10 +51,15 @@ public final class WorldCategory {
                                                                  + "Finally, if set to 0 or less, the default interval will be used.")
     public int gameProfileQueryTaskInterval = 4;
 
+    @Setting(value = "game-profile-lookup-threads")
+    @Comment("The maximum number of GameProfile lookups against Mojang's servers that may run at the same time. (Default: 4) \n"
+                                                                 + "Note: Lookups by name are additionally batched into bulk requests.")
+    public int gameProfileLookupThreads = 4;
+
     @Setting(value = "invalid-lookup-uuids")
     @Comment("The list of uuid's that should never perform a lookup against Mojang's session server. \n"
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
-    public final List<UUID> invalidLookupUuids = new ArrayList<>();
+    public final Set<UUID> invalidLookupUuids = new LinkedHashSet<>();
 
     public WorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
@@ -98,6 +98,9 @@ public void stopTiming() {
             TimingsManager.HISTORY.add(new TimingHistory());
             TimingsManager.resetTimings();
         }
+        if (TimingsRollingWindow.enabled) {
+            TimingsRollingWindow.tick();
+        }
         TimingsExport.reportTimings();
     }
 
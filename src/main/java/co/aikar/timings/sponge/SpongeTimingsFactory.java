@@ -90,11 +90,13 @@ public static TimingHandler ofSafe(String groupName, String name, Timing groupHa
     public TimingsFactory init() {
         final TimingsCategory category = SpongeConfigs.getCommon().get().timings;
         TimingsManager.privacy = category.serverNamePrivacy;
+        TimingsManager.localExport = category.localExport;
         TimingsManager.hiddenConfigs.addAll(category.hiddenConfigEntries);
         this.setVerboseTimingsEnabled(category.verbose);
         this.setTimingsEnabled(this.moduleEnabled && category.enabled);
         this.setHistoryInterval(category.historyInterval);
         this.setHistoryLength(category.historyLength);
+        TimingsRollingWindow.configure(category.rollingWindowInterval);
 
         SpongeCommon.logger().debug("Sponge Timings: " + this.timingsEnabled +
                 " - Verbose: " + this.verboseEnabled +
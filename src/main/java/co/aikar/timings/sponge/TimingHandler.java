@@ -37,6 +37,7 @@ class TimingHandler implements Timing {
     final int id = TimingHandler.idPool++;
 
     final String name;
+    final String groupName;
     private final boolean verbose;
 
     final Int2ObjectOpenHashMap<TimingData> children = new LoadingIntMap<>(TimingData::new);
@@ -50,6 +51,9 @@ class TimingHandler implements Timing {
     protected boolean timed;
     protected boolean enabled;
     private TimingHandler parent;
+    // Only used while the rolling window is enabled
+    int windowCount;
+    long windowTotal;
 
     TimingHandler(TimingIdentifier id) {
         if (id.name.startsWith("##")) {
@@ -60,6 +64,7 @@ class TimingHandler implements Timing {
             this.verbose = false;
         }
 
+        this.groupName = id.group;
         this.record = new TimingData(this.id);
         this.groupHandler = id.groupHandler;
 
@@ -148,6 +153,9 @@ void addDiff(long diff) {
             }
         }
         this.record.add(diff);
+        if (TimingsRollingWindow.enabled) {
+            TimingsRollingWindow.record(this, diff);
+        }
         if (!this.added) {
             this.added = true;
             this.timed = true;
@@ -62,6 +62,7 @@
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -80,7 +81,7 @@ class TimingsExport extends Thread {
     final static List<Audience> requestingReport = Lists.newArrayList();
 
     TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history) {
-        super("Timings paste thread");
+        super(TimingsManager.localExport ? "Timings export thread" : "Timings paste thread");
         this.listeners = listeners;
         this.out = out;
         this.history = history;
@@ -297,6 +298,11 @@ public synchronized void start() {
     public void run() {
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (TimingsManager.localExport) {
+            this.exportLocally();
+            return;
+        }
+
         String response = null;
         String timingsURL = null;
         try {
@@ -353,6 +359,20 @@ public void run() {
         }
     }
 
+    private void exportLocally() {
+        String reportPath = null;
+        try {
+            final Path file = TimingsLocalExport.write(this.out);
+            reportPath = file.toAbsolutePath().toString();
+            this.listeners.send(Component.text("Timings report written to " + reportPath, NamedTextColor.GREEN));
+        } catch (IOException ex) {
+            this.listeners.send(Component.text("Error writing timings, check your logs for more information", NamedTextColor.RED));
+            SpongeCommon.logger().error("Could not write timings report", ex);
+        } finally {
+            this.listeners.done(reportPath);
+        }
+    }
+
     private String getResponse(HttpURLConnection con) throws IOException {
         InputStream is = null;
         try {
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings.sponge;
+
+import co.aikar.timings.util.JSONUtil;
+import com.google.gson.JsonObject;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes timings reports to the local timings directory instead of
+ * uploading them. Every report is written as the raw json sent to the
+ * timings viewer, next to a self contained html summary of it.
+ */
+final class TimingsLocalExport {
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    private TimingsLocalExport() {
+    }
+
+    static Path directory() {
+        return SpongeCommon.gameDirectory().resolve("timings");
+    }
+
+    static Path write(final JsonObject report) throws IOException {
+        final Path directory = TimingsLocalExport.directory();
+        Files.createDirectories(directory);
+
+        final String name = "timings-" + LocalDateTime.now().format(TimingsLocalExport.FILE_NAME_FORMAT);
+        final String json = JSONUtil.toString(report);
+        final Path jsonFile = directory.resolve(name + ".json");
+        Files.write(jsonFile, json.getBytes(StandardCharsets.UTF_8));
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(directory.resolve(name + ".html"), StandardCharsets.UTF_8)) {
+            writer.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>");
+            writer.write(name);
+            writer.write("</title>\n<style>\n"
+                    + "body { font-family: sans-serif; margin: 2em; }\n"
+                    + "table { border-collapse: collapse; }\n"
+                    + "th, td { padding: 2px 8px; text-align: right; border-bottom: 1px solid #ddd; }\n"
+                    + "td.name { text-align: left; }\n"
+                    + "</style>\n</head>\n<body>\n<h1>");
+            writer.write(name);
+            writer.write("</h1>\n<p id=\"summary\"></p>\n<table id=\"handlers\">\n"
+                    + "<tr><th>Group</th><th>Name</th><th>Total (ms)</th><th>Avg (ms/tick)</th><th>Count</th><th>Lag count</th><th>Lag total (ms)</th><th>Top children (ms)</th></tr>\n"
+                    + "</table>\n<script>\nconst report = ");
+            // Json can't contain a literal "</" which could close the script early
+            writer.write(json.replace("</", "<\\/"));
+            writer.write(";\n"
+                    + "const idmap = report.idmap;\n"
+                    + "const totals = {};\n"
+                    + "let ticks = 0;\n"
+                    + "// [id, count, total, (lagCount, lagTotal)?, (children)?], lag data is only there if there was lag\n"
+                    + "for (const history of report.data) {\n"
+                    + "  ticks += history.tk;\n"
+                    + "  for (const entry of history.h) {\n"
+                    + "    const id = entry[0];\n"
+                    + "    const t = totals[id] || (totals[id] = { count: 0, total: 0, lagCount: 0, lagTotal: 0, children: {} });\n"
+                    + "    t.count += entry[1];\n"
+                    + "    t.total += entry[2];\n"
+                    + "    if (typeof entry[3] === 'number') {\n"
+                    + "      t.lagCount += entry[3];\n"
+                    + "      t.lagTotal += entry[4];\n"
+                    + "    }\n"
+                    + "    const children = entry[entry.length - 1];\n"
+                    + "    if (Array.isArray(children)) {\n"
+                    + "      for (const child of children) {\n"
+                    + "        t.children[child[0]] = (t.children[child[0]] || 0) + child[2];\n"
+                    + "      }\n"
+                    + "    }\n"
+                    + "  }\n"
+                    + "}\n"
+                    + "document.getElementById('summary').textContent = 'Version ' + report.version + ', ' + report.sampletime\n"
+                    + "    + ' seconds sampled over ' + ticks + ' ticks';\n"
+                    + "const table = document.getElementById('handlers');\n"
+                    + "Object.keys(totals).sort((a, b) => totals[b].total - totals[a].total).forEach(id => {\n"
+                    + "  const handler = idmap.handlers[id] || [0, 'Unknown ' + id];\n"
+                    + "  const t = totals[id];\n"
+                    + "  const children = Object.keys(t.children).sort((a, b) => t.children[b] - t.children[a]).slice(0, 3)\n"
+                    + "      .map(child => (idmap.handlers[child] || [0, 'Unknown ' + child])[1] + ' ' + (t.children[child] / 1e6).toFixed(2));\n"
+                    + "  const row = table.insertRow();\n"
+                    + "  [idmap.groups[handler[0]] || '', handler[1], (t.total / 1e6).toFixed(2), ticks ? (t.total / 1e6 / ticks).toFixed(4) : '',\n"
+                    + "      t.count, t.lagCount, (t.lagTotal / 1e6).toFixed(2), children.join(', ')].forEach((value, i) => {\n"
+                    + "    const cell = row.insertCell();\n"
+                    + "    cell.textContent = value;\n"
+                    + "    if (i < 2 || i === 7) { cell.className = 'name'; }\n"
+                    + "  });\n"
+                    + "});\n"
+                    + "</script>\n</body>\n</html>\n");
+        }
+        return jsonFile;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings.sponge;
+
+import co.aikar.timings.util.JSONUtil;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Continuously records timings into fixed length windows which are appended,
+ * one json object per line, to {@code timings/rolling.jsonl}.
+ *
+ * <p>Each window holds the count and total time of every handler that was
+ * timed within it, together with the garbage collections and the main thread
+ * allocation that happened during the same window, so that slow handlers can
+ * be correlated with memory pressure. When disabled the only cost is a
+ * single static field check per completed timing.</p>
+ */
+final class TimingsRollingWindow {
+
+    private static final String FILE_NAME = "rolling.jsonl";
+    private static final long MAX_FILE_SIZE = 16L * 1024 * 1024;
+
+    static boolean enabled = false;
+
+    private static final List<TimingHandler> ACTIVE = new ArrayList<>();
+    private static final Map<String, long[]> LAST_GC = new HashMap<>();
+    private static long intervalNanos;
+    private static long windowStart;
+    private static long windowStartMillis;
+    private static long lastAllocated = -1;
+    private static int ticks;
+    private static ExecutorService writer;
+
+    private TimingsRollingWindow() {
+    }
+
+    static void configure(final int intervalSeconds) {
+        TimingsRollingWindow.enabled = intervalSeconds > 0;
+        if (!TimingsRollingWindow.enabled) {
+            return;
+        }
+        TimingsRollingWindow.intervalNanos = TimeUnit.SECONDS.toNanos(intervalSeconds);
+        if (TimingsRollingWindow.writer == null) {
+            TimingsRollingWindow.writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("Sponge - Timings Window Writer")
+                    .build());
+        }
+        TimingsRollingWindow.startWindow();
+    }
+
+    static void record(final TimingHandler handler, final long diff) {
+        if (handler.windowCount++ == 0) {
+            TimingsRollingWindow.ACTIVE.add(handler);
+        }
+        handler.windowTotal += diff;
+    }
+
+    /**
+     * Called at the end of every timed server tick, on the main thread.
+     */
+    static void tick() {
+        TimingsRollingWindow.ticks++;
+        final long now = System.nanoTime();
+        if (now - TimingsRollingWindow.windowStart < TimingsRollingWindow.intervalNanos) {
+            return;
+        }
+
+        final JsonArray handlers = new JsonArray();
+        for (final TimingHandler handler : TimingsRollingWindow.ACTIVE) {
+            handlers.add(JSONUtil.arrayOf(handler.groupName, handler.name, handler.windowCount, handler.windowTotal));
+            handler.windowCount = 0;
+            handler.windowTotal = 0;
+        }
+        TimingsRollingWindow.ACTIVE.clear();
+
+        final JsonObject window = JSONUtil.objectBuilder()
+                .add("start", TimingsRollingWindow.windowStartMillis)
+                .add("end", System.currentTimeMillis())
+                .add("ticks", TimingsRollingWindow.ticks)
+                .add("allocated", TimingsRollingWindow.allocatedSinceLast())
+                .add("gc", TimingsRollingWindow.collectionsSinceLast())
+                .add("handlers", handlers)
+                .build();
+        final String line = JSONUtil.toString(window);
+        TimingsRollingWindow.writer.execute(() -> TimingsRollingWindow.append(line));
+
+        TimingsRollingWindow.ticks = 0;
+        TimingsRollingWindow.windowStart = now;
+        TimingsRollingWindow.windowStartMillis = System.currentTimeMillis();
+    }
+
+    private static void startWindow() {
+        for (final TimingHandler handler : TimingsRollingWindow.ACTIVE) {
+            handler.windowCount = 0;
+            handler.windowTotal = 0;
+        }
+        TimingsRollingWindow.ACTIVE.clear();
+        TimingsRollingWindow.ticks = 0;
+        TimingsRollingWindow.windowStart = System.nanoTime();
+        TimingsRollingWindow.windowStartMillis = System.currentTimeMillis();
+        TimingsRollingWindow.allocatedSinceLast();
+        TimingsRollingWindow.collectionsSinceLast();
+    }
+
+    private static long allocatedSinceLast() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        final long allocated = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        final long last = TimingsRollingWindow.lastAllocated;
+        TimingsRollingWindow.lastAllocated = allocated;
+        return last == -1 ? -1 : allocated - last;
+    }
+
+    private static JsonObject collectionsSinceLast() {
+        final JsonObject gc = new JsonObject();
+        for (final GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            final long count = bean.getCollectionCount();
+            final long time = bean.getCollectionTime();
+            final long[] last = TimingsRollingWindow.LAST_GC.computeIfAbsent(bean.getName(), name -> new long[] {count, time});
+            gc.add(bean.getName(), JSONUtil.arrayOf(count - last[0], time - last[1]));
+            last[0] = count;
+            last[1] = time;
+        }
+        return gc;
+    }
+
+    private static void append(final String line) {
+        final Path directory = TimingsLocalExport.directory();
+        final Path file = directory.resolve(TimingsRollingWindow.FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+            if (Files.exists(file) && Files.size(file) > TimingsRollingWindow.MAX_FILE_SIZE) {
+                Files.move(file, directory.resolve(TimingsRollingWindow.FILE_NAME + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                writer.write(line);
+                writer.newLine();
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Could not write timings window", e);
+        }
+    }
+}
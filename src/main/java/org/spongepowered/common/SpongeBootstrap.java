@@ -31,6 +31,7 @@
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.network.packet.SpongePacketHandler;
+import org.spongepowered.common.util.StartupProfiler;
 
 public final class SpongeBootstrap {
 
@@ -43,17 +44,17 @@ public static void perform(final String engineName, final Runnable engineStart)
         final Injector bootstrapInjector = Launch.instance().createInjector();
         SpongeBootstrap.injector = bootstrapInjector;
         SpongeBootstrap.lifecycle = bootstrapInjector.getInstance(SpongeLifecycle.class);
-        SpongeBootstrap.lifecycle.establishFactories();
-        SpongeBootstrap.lifecycle.establishBuilders();
-        SpongeBootstrap.lifecycle.initTimings();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishFactories", SpongeBootstrap.lifecycle::establishFactories);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishBuilders", SpongeBootstrap.lifecycle::establishBuilders);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "initTimings", SpongeBootstrap.lifecycle::initTimings);
         Launch.instance().performLifecycle();
-        SpongeBootstrap.lifecycle.registerPluginListeners();
-        SpongeBootstrap.lifecycle.callConstructEvent();
-        SpongeBootstrap.lifecycle.callRegisterFactoryEvent();
-        SpongeBootstrap.lifecycle.callRegisterBuilderEvent();
-        SpongeBootstrap.lifecycle.callRegisterChannelEvent();
-        SpongeBootstrap.lifecycle.establishGameServices();
-        SpongeBootstrap.lifecycle.establishDataKeyListeners();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "registerPluginListeners", SpongeBootstrap.lifecycle::registerPluginListeners);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callConstructEvent", SpongeBootstrap.lifecycle::callConstructEvent);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callRegisterFactoryEvent", SpongeBootstrap.lifecycle::callRegisterFactoryEvent);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callRegisterBuilderEvent", SpongeBootstrap.lifecycle::callRegisterBuilderEvent);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callRegisterChannelEvent", SpongeBootstrap.lifecycle::callRegisterChannelEvent);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishGameServices", SpongeBootstrap.lifecycle::establishGameServices);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishDataKeyListeners", SpongeBootstrap.lifecycle::establishDataKeyListeners);
 
         SpongePacketHandler.init((SpongeChannelManager) Sponge.channelManager());
 
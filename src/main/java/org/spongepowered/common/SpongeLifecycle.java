@@ -58,6 +58,7 @@
 import org.spongepowered.common.registry.SpongeRegistryHolder;
 import org.spongepowered.common.service.SpongeServiceProvider;
 import org.spongepowered.common.service.server.permission.SpongeContextCalculator;
+import org.spongepowered.common.util.StartupProfiler;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.nio.file.Path;
@@ -151,7 +152,8 @@ public SpongeCommandManager createCommandManager() {
 
     public void registerPluginListeners() {
         for (final PluginContainer plugin : this.filterInternalPlugins(this.game.pluginManager().plugins())) {
-            this.game.eventManager().registerListeners(plugin, plugin.instance());
+            StartupProfiler.run(StartupProfiler.PLUGIN, plugin.metadata().id() + " listeners",
+                    () -> this.game.eventManager().registerListeners(plugin, plugin.instance()));
         }
     }
 
@@ -159,8 +161,9 @@ public void registerPluginListeners() {
 
     public void callConstructEvent() {
         for (final PluginContainer plugin : this.filterInternalPlugins(this.game.pluginManager().plugins())) {
-            ((SpongeEventManager) this.game.eventManager()).postToPlugin(SpongeEventFactory.createConstructPluginEvent(Cause.of(EventContext.empty(),
-                    this.game), this.game, plugin), plugin);
+            StartupProfiler.run(StartupProfiler.PLUGIN, plugin.metadata().id() + " construct",
+                    () -> ((SpongeEventManager) this.game.eventManager()).postToPlugin(SpongeEventFactory.createConstructPluginEvent(
+                            Cause.of(EventContext.empty(), this.game), this.game, plugin), plugin));
         }
     }
 
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.Server;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
+import org.spongepowered.common.data.persistence.AsyncDataSerializer;
 import org.spongepowered.common.scheduler.ServerScheduler;
 import org.spongepowered.common.util.UsernameCache;
 import org.spongepowered.common.world.server.SpongeWorldManager;
@@ -43,6 +44,8 @@ public interface SpongeServer extends SpongeEngine, Server {
 
     UsernameCache getUsernameCache();
 
+    AsyncDataSerializer getDataSerializer();
+
     @Override
     SpongeCommandManager commandManager();
 }
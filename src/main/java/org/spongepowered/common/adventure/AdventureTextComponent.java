@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.adventure;
 
+import com.google.gson.Gson;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
@@ -41,18 +42,20 @@
 
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AdventureTextComponent implements net.minecraft.network.chat.Component, BaseComponentBridge {
+    private static final int MAX_RENDERED_LOCALES = 16;
+
     private net.minecraft.network.chat.@MonotonicNonNull Component converted;
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    @OnlyIn(Dist.CLIENT)
-    private @Nullable Locale lastLocale;
-    @OnlyIn(Dist.CLIENT)
-    private @Nullable AdventureTextComponent lastRendered;
+    // Bounded so a component held onto indefinitely cannot accumulate every locale a client reports
+    private volatile @MonotonicNonNull Map<Locale, AdventureTextComponent> rendered;
+    private volatile @Nullable SerializedJson json;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
@@ -67,12 +70,50 @@ public net.kyori.adventure.text.Component wrapped() {
         return this.wrapped;
     }
 
-    public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+    public AdventureTextComponent rendered(final Locale locale) {
+        if (this.renderer == null) {
+            return this;
+        }
+        Map<Locale, AdventureTextComponent> rendered = this.rendered;
+        if (rendered == null) {
+            synchronized (this) {
+                rendered = this.rendered;
+                if (rendered == null) {
+                    rendered = this.rendered = new ConcurrentHashMap<>(4);
+                }
+            }
+        }
+        final AdventureTextComponent cached = rendered.get(locale);
+        if (cached != null) {
+            return cached;
+        }
+        final AdventureTextComponent result = new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        if (rendered.size() < AdventureTextComponent.MAX_RENDERED_LOCALES) {
+            final AdventureTextComponent previous = rendered.putIfAbsent(locale, result);
+            return previous == null ? result : previous;
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        return result;
+    }
+
+    /**
+     * Gets the JSON form of the wrapped component, serializing it on first
+     * use. Rendered components are shared between every connection with the
+     * same locale, so a broadcast is only serialized once per locale.
+     *
+     * <p>Only the JSON of the last used {@link Gson} is kept, serializing
+     * with another instance replaces it.</p>
+     *
+     * @param gson The gson to serialize with
+     * @return The JSON
+     */
+    public String json(final Gson gson) {
+        final SerializedJson json = this.json;
+        if (json != null && json.gson == gson) {
+            return json.json;
+        }
+        final String serialized = gson.toJson(this.wrapped);
+        this.json = new SerializedJson(gson, serialized);
+        return serialized;
     }
 
     net.minecraft.network.chat.Component deepConverted() {
@@ -164,4 +205,14 @@ public <T> Optional<T> visit(final ContentConsumer<T> visitor) {
     public @Nullable Component bridge$adventureComponentIfPresent() {
         return this.bridge$asAdventureComponent();
     }
+
+    private static final class SerializedJson {
+        final Gson gson;
+        final String json;
+
+        SerializedJson(final Gson gson, final String json) {
+            this.gson = gson;
+            this.json = json;
+        }
+    }
 }
@@ -53,6 +53,7 @@ public interface SpongeDataHolderBridge {
             builder.replace(immutableValue);
         }
         manipulator.set(key, value);
+        this.bridge$markDataDirty();
         builder.success(manipulator.getValue(key).get().asImmutable());
 
         DataUtil.syncDataToTag(this);
@@ -65,6 +66,7 @@ public interface SpongeDataHolderBridge {
         final Optional<? extends Value<E>> value = manipulator.getValue(key);
         if (value.isPresent()) {
             manipulator.remove(key);
+            this.bridge$markDataDirty();
         }
         DataUtil.syncDataToTag(this);
         return value.map(Value::asImmutable).map(DataTransactionResult::successRemove)
@@ -78,4 +80,16 @@ public interface SpongeDataHolderBridge {
     void bridge$invalidateFailedData();
 
     void bridge$addFailedData(DataQuery nameSpace, DataView keyedData);
+
+    /**
+     * Gets whether the custom data changed since it was last written to
+     * the compound of this holder.
+     *
+     * @return True if the custom data has to be serialized again
+     */
+    boolean bridge$isDataDirty();
+
+    void bridge$markDataDirty();
+
+    void bridge$clearDataDirty();
 }
@@ -99,7 +99,7 @@ public interface PrimaryLevelDataBridge {
 
     int bridge$getIndexForUniqueId(UUID uuid);
 
-    Optional<UUID> bridge$getUniqueIdForIndex(int ownerIndex);
+    @Nullable UUID bridge$getUniqueIdForIndex(int ownerIndex);
 
     void bridge$readSpongeLevelData(Dynamic<Tag> impl$spongeLevelData);
 
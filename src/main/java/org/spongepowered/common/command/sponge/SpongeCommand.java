@@ -69,6 +69,7 @@
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scoreboard.ScoreboardSync;
 import co.aikar.timings.sponge.SpongeTimingsFactory;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginContributor;
@@ -581,6 +582,11 @@ private Command.Parameterized chunksSubcommand() {
 
             tps.add(Component.newline());
             tps.add(this.appendTickTime(SpongeCommon.server().tickTimes, Component.text().content("Overall: ")).build());
+            tps.add(Component.text()
+                .append(Component.text("Scoreboard scores: ", TextColor.color(0xC9C9C9)))
+                .append(Component.text(ScoreboardSync.sentScorePackets() + " sent, " + ScoreboardSync.coalescedScores() + " coalesced, "
+                    + ScoreboardSync.unchangedScores() + " unchanged of " + ScoreboardSync.queuedScores() + " changes", NamedTextColor.GRAY))
+                .build());
             SpongeCommon.game().serviceProvider()
               .paginationService()
               .builder()
@@ -25,6 +25,7 @@
 package org.spongepowered.common.data;
 
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
@@ -173,6 +174,13 @@ private static void upgradeV2CustomData(CompoundTag compound, DataContainer allD
     }
 
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeSpongeData(final T dataHolder) {
+        // Unchanged custom data reuses the compound it was last serialized to. Item stacks keep their data
+        // in the item tag, which vanilla modifies freely, so they are always serialized again.
+        if (!dataHolder.bridge$isDataDirty() && !(dataHolder instanceof ItemStack)) {
+            return dataHolder.data$getCompound() != null;
+        }
+        dataHolder.bridge$clearDataDirty();
+
         CompoundTag compound = dataHolder.data$getCompound();
         if (compound == null) {
             compound = new CompoundTag();
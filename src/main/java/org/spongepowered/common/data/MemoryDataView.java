@@ -48,6 +48,7 @@
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.registry.RegistryType;
 import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.registry.provider.KeyProvider;
 
 import java.util.ArrayList;
@@ -61,6 +62,7 @@
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import net.minecraft.nbt.CompoundTag;
 
 
 /**
@@ -68,11 +70,17 @@
  */
 public class MemoryDataView implements DataView {
 
+    // Final types stored as they are, which never have a registry type or translator
+    private static final Set<Class<?>> PLAIN_TYPES = ImmutableSet.of(String.class, Boolean.class, Byte.class, Short.class, Integer.class,
+        Long.class, Float.class, Double.class, Character.class);
+
     protected final Map<String, Object> map = Maps.newLinkedHashMap();
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
+    // Entries not translated into the map yet, see setLazyCompound
+    private @Nullable CompoundTag lazyCompound;
 
     MemoryDataView(final DataView.SafetyMode safety) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
@@ -90,6 +98,40 @@ private MemoryDataView(final DataView parent, final DataQuery path, final DataVi
         this.safety = Objects.requireNonNull(safety, "Safety mode");
     }
 
+    /**
+     * Defers translating the entries of the given compound into this view
+     * until they are first accessed. Nested compounds are deferred again, so
+     * reading a single value only translates the levels along its path.
+     *
+     * <p>The compound is shared, not copied, and must never be modified
+     * afterwards.</p>
+     *
+     * @param compound The compound holding the entries of this view
+     */
+    public void setLazyCompound(final CompoundTag compound) {
+        checkState(this.map.isEmpty() && this.lazyCompound == null, "The view already has entries");
+        this.lazyCompound = Objects.requireNonNull(compound, "compound");
+    }
+
+    /**
+     * Gets the compound holding all entries of this view, if none of them
+     * have been accessed yet. It must not be modified.
+     *
+     * @return The untranslated compound, or null
+     */
+    public @Nullable CompoundTag getLazyCompound() {
+        return this.lazyCompound;
+    }
+
+    private Map<String, Object> entries() {
+        final @Nullable CompoundTag compound = this.lazyCompound;
+        if (compound != null) {
+            this.lazyCompound = null;
+            NBTTranslator.INSTANCE.addToLazily(compound, this);
+        }
+        return this.map;
+    }
+
     @Override
     public DataContainer container() {
         return this.container;
@@ -115,11 +157,11 @@ public Optional<DataView> parent() {
     public Set<DataQuery> keys(final boolean deep) {
         final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
-        for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+        for (final Map.Entry<String, Object> entry : this.entries().entrySet()) {
             builder.add(DataQuery.of(entry.getKey()));
         }
         if (deep) {
-            for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+            for (final Map.Entry<String, Object> entry : this.entries().entrySet()) {
                 if (entry.getValue() instanceof DataView) {
                     for (final DataQuery query : ((DataView) entry.getValue()).keys(true)) {
                         builder.add(DataQuery.of(entry.getKey()).then(query));
@@ -133,12 +175,26 @@ public Set<DataQuery> keys(final boolean deep) {
     @Override
     public Map<DataQuery, Object> values(final boolean deep) {
         final ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
-        for (final DataQuery query : this.keys(deep)) {
-            final Object value = this.get(query).get();
+        final List<DataQuery> viewKeys = new ArrayList<>();
+        final List<Map<DataQuery, Object>> viewValues = new ArrayList<>();
+        for (final Map.Entry<String, Object> entry : this.entries().entrySet()) {
+            final DataQuery query = DataQuery.of(entry.getKey());
+            final Object value = entry.getValue();
             if (value instanceof DataView) {
-                builder.put(query, ((DataView) value).values(deep));
+                final Map<DataQuery, Object> values = ((DataView) value).values(deep);
+                builder.put(query, values);
+                viewKeys.add(query);
+                viewValues.add(values);
             } else {
-                builder.put(query, this.get(query).get());
+                builder.put(query, this.safeValue(value));
+            }
+        }
+        if (deep) {
+            // Same order as keys(true), nested entries follow all entries of this view
+            for (int i = 0; i < viewKeys.size(); i++) {
+                for (final Map.Entry<DataQuery, Object> entry : viewValues.get(i).entrySet()) {
+                    builder.put(viewKeys.get(i).then(entry.getKey()), entry.getValue());
+                }
             }
         }
         return builder.build();
@@ -149,12 +205,8 @@ public final boolean contains(final DataQuery path) {
         Objects.requireNonNull(path, "path");
         final List<String> queryParts = path.parts();
 
-        final String key = queryParts.get(0);
-        if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
-        }
-        final Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
+        final MemoryDataView view = this.viewFor(queryParts, false);
+        return view != null && view.entries().containsKey(queryParts.get(queryParts.size() - 1));
     }
 
     @Override
@@ -188,105 +240,140 @@ public Optional<Object> get(final DataQuery path) {
             return Optional.of(this);
         }
 
-        final String key = queryParts.get(0);
-        if (sz == 1) {
-            final Object object = this.map.get(key);
-            if (object == null) {
-                return Optional.empty();
-            }
-            if (this.safety == org.spongepowered.api.data.persistence.DataView.SafetyMode.ALL_DATA_CLONED) {
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.of(ArrayUtils.clone((Object[]) object));
-                    }
+        final MemoryDataView view = this.viewFor(queryParts, false);
+        if (view == null) {
+            return Optional.empty();
+        }
+        final Object object = view.entries().get(queryParts.get(sz - 1));
+        if (object == null) {
+            return Optional.empty();
+        }
+        return Optional.of(view.safeValue(object));
+    }
+
+    private Object safeValue(final Object object) {
+        if (this.safety == org.spongepowered.api.data.persistence.DataView.SafetyMode.ALL_DATA_CLONED) {
+            if (object.getClass().isArray()) {
+                if (object instanceof byte[]) {
+                    return ArrayUtils.clone((byte[]) object);
+                } else if (object instanceof short[]) {
+                    return ArrayUtils.clone((short[]) object);
+                } else if (object instanceof int[]) {
+                    return ArrayUtils.clone((int[]) object);
+                } else if (object instanceof long[]) {
+                    return ArrayUtils.clone((long[]) object);
+                } else if (object instanceof float[]) {
+                    return ArrayUtils.clone((float[]) object);
+                } else if (object instanceof double[]) {
+                    return ArrayUtils.clone((double[]) object);
+                } else if (object instanceof boolean[]) {
+                    return ArrayUtils.clone((boolean[]) object);
+                } else {
+                    return ArrayUtils.clone((Object[]) object);
                 }
             }
-            return Optional.of(object);
         }
-        final Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
-            return Optional.empty();
+        return object;
+    }
+
+    /**
+     * Gets the view holding the last part of the given path, walking the
+     * path without creating intermediate queries. Views stored in the map are
+     * always created by this class, so every nested view is a
+     * {@link MemoryDataView}.
+     *
+     * @param parts The parts of the path
+     * @param create Whether to create missing views, replacing non-view values
+     * @return The view, or null if a part is missing and not created
+     */
+    private @Nullable MemoryDataView viewFor(final List<String> parts, final boolean create) {
+        MemoryDataView view = this;
+        for (int i = 0; i < parts.size() - 1; i++) {
+            final String key = parts.get(i);
+            final Object object = view.entries().get(key);
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (create) {
+                view = view.createLocalView(key);
+            } else {
+                return null;
+            }
         }
-        final DataView subView = subViewOptional.get();
-        return subView.get(path.popFirst());
+        return view;
+    }
 
+    private MemoryDataView createLocalView(final String key) {
+        final MemoryDataView result = new MemoryDataView(this, DataQuery.of(key), this.safety);
+        this.entries().put(key, result);
+        return result;
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public DataView set(final DataQuery path, final Object value) {
         Objects.requireNonNull(path, "path");
         Objects.requireNonNull(value, "value");
         checkState(this.container != null);
         checkState(!path.parts().isEmpty(), "The path is empty");
 
-        @Nullable DataManager manager;
-
-        // TODO: this call to dataManager each set can be cleaned up
-        try {
-            manager = Sponge.dataManager();
-        } catch (final Exception e) {
-            manager = null;
-        }
-
         final List<String> parts = path.parts();
-        final String key = parts.get(0);
         if (parts.size() > 1) {
-            final DataQuery subQuery = DataQuery.of(key);
-            final Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            final DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
-            } else {
-                subView = subViewOptional.get();
-            }
-            subView.set(path.popFirst(), value);
-            return this;
+            this.viewFor(parts, true).setLocal(parts.get(parts.size() - 1), value);
+        } else {
+            this.setLocal(parts.get(0), value);
+        }
+        return this;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void setLocal(final String key, final Object value) {
+        if (MemoryDataView.PLAIN_TYPES.contains(value.getClass())) {
+            // Nothing below applies to these, skip the registry and translator lookups
+            this.entries().put(key, value);
+            return;
         }
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
+            final @Nullable CompoundTag lazy = value instanceof MemoryDataView ? ((MemoryDataView) value).lazyCompound : null;
+            if (lazy != null && !lazy.isEmpty() && !(this.entries().get(key) instanceof DataView)) {
+                // Nothing to merge with, so share the untranslated compound instead of translating it to copy it
+                this.createLocalView(key).lazyCompound = lazy;
+                return;
+            }
             // always have to copy a data view to avoid overwriting existing
             // views and to set the interior path correctly.
-            this.copyDataView(path, (DataView) value);
-        } else if (value instanceof DataSerializable) {
+            this.copyDataView(DataQuery.of(key), (DataView) value);
+            return;
+        }
+        if (value instanceof DataSerializable) {
             final DataContainer valueContainer = ((DataSerializable) value).toContainer();
             checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
             // see above for why this is copied
-            this.copyDataView(path, valueContainer);
-        } else if (SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass()).isPresent()) {
-            final RegistryType<Object> registry = SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass()).get();
-            final ResourceKey valueKey = Sponge.game().registries().registry(registry).valueKey(value);
+            this.copyDataView(DataQuery.of(key), valueContainer);
+            return;
+        }
+        final Optional<RegistryType<Object>> registryType = SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass());
+        if (registryType.isPresent()) {
+            final ResourceKey valueKey = Sponge.game().registries().registry(registryType.get()).valueKey(value);
             // TODO if we serialize into a DataView - deserialize needs to do it too
 //            final DataView view = this.createView(path);
 //            view.set(DataQuery.of("registryroot"), registry.root());
 //            view.set(DataQuery.of("registrylocation"), registry.location());
 //            view.set(DataQuery.of("valuekey"), valueKey);
 //            view.set(DataQuery.of("scope"), scope);
-            return this.set(path, valueKey);
+            this.setLocal(key, valueKey);
+            return;
         }
-        else if (value instanceof ResourceKey) {
-            return this.set(path, value.toString());
-        } else if (manager != null && manager.translator(value.getClass()).isPresent()) {
-            final DataTranslator serializer = manager.translator(value.getClass()).get();
-            final DataContainer container = serializer.translate(value);
+        if (value instanceof ResourceKey) {
+            this.entries().put(key, value.toString());
+            return;
+        }
+        final @Nullable DataManager manager = MemoryDataView.dataManager();
+        final Optional<DataTranslator> translator = manager == null ? Optional.empty() : (Optional) manager.translator(value.getClass());
+        if (translator.isPresent()) {
+            final DataContainer container = translator.get().translate(value);
             checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
             // see above for why this is copied
-            this.copyDataView(path, container);
+            this.copyDataView(DataQuery.of(key), container);
         } else if (value instanceof Collection) {
             this.setCollection(key, (Collection) value);
         } else if (value instanceof Map) {
@@ -294,41 +381,42 @@ else if (value instanceof ResourceKey) {
         } else if (value.getClass().isArray()) {
             if (this.safety == org.spongepowered.api.data.persistence.DataView.SafetyMode.ALL_DATA_CLONED || this.safety == org.spongepowered.api.data.persistence.DataView.SafetyMode.CLONED_ON_SET) {
                 if (value instanceof byte[]) {
-                    this.map.put(key, ArrayUtils.clone((byte[]) value));
+                    this.entries().put(key, ArrayUtils.clone((byte[]) value));
                 } else if (value instanceof short[]) {
-                    this.map.put(key, ArrayUtils.clone((short[]) value));
+                    this.entries().put(key, ArrayUtils.clone((short[]) value));
                 } else if (value instanceof int[]) {
-                    this.map.put(key, ArrayUtils.clone((int[]) value));
+                    this.entries().put(key, ArrayUtils.clone((int[]) value));
                 } else if (value instanceof long[]) {
-                    this.map.put(key, ArrayUtils.clone((long[]) value));
+                    this.entries().put(key, ArrayUtils.clone((long[]) value));
                 } else if (value instanceof float[]) {
-                    this.map.put(key, ArrayUtils.clone((float[]) value));
+                    this.entries().put(key, ArrayUtils.clone((float[]) value));
                 } else if (value instanceof double[]) {
-                    this.map.put(key, ArrayUtils.clone((double[]) value));
+                    this.entries().put(key, ArrayUtils.clone((double[]) value));
                 } else if (value instanceof boolean[]) {
-                    this.map.put(key, ArrayUtils.clone((boolean[]) value));
+                    this.entries().put(key, ArrayUtils.clone((boolean[]) value));
                 } else {
-                    this.map.put(key, ArrayUtils.clone((Object[]) value));
+                    this.entries().put(key, ArrayUtils.clone((Object[]) value));
                 }
             } else {
-                this.map.put(key, value);
+                this.entries().put(key, value);
             }
         } else {
-            this.map.put(key, value);
+            this.entries().put(key, value);
         }
-        return this;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private void setCollection(final String key, final Collection<?> value) {
-        final ImmutableList.Builder<Object> builder = ImmutableList.builder();
-        @Nullable DataManager manager;
-
+    private static @Nullable DataManager dataManager() {
         try {
-            manager = Sponge.dataManager();
+            return Sponge.dataManager();
         } catch (final Exception e) {
-            manager = null;
+            return null;
         }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void setCollection(final String key, final Collection<?> value) {
+        final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        final @Nullable DataManager manager = MemoryDataView.dataManager();
 
         for (final Object object : value) {
             if (object instanceof DataSerializable) {
@@ -368,7 +456,7 @@ private void setCollection(final String key, final Collection<?> value) {
 
             }
         }
-        this.map.put(key, builder.build());
+        this.entries().put(key, builder.build());
     }
 
     @SuppressWarnings("rawtypes")
@@ -412,8 +500,8 @@ private void setMap(final String key, final Map<?, ?> value) {
     }
 
     private void copyDataView(final DataQuery path, final DataView value) {
-        final Collection<DataQuery> valueKeys = value.keys(true);
-        for (final DataQuery oldKey : valueKeys) {
+        // Nested views are copied when they are set, walking the deep keys would copy them again for every level
+        for (final DataQuery oldKey : value.keys(false)) {
             this.set(path.then(oldKey), value.get(oldKey).get());
         }
     }
@@ -422,17 +510,9 @@ private void copyDataView(final DataQuery path, final DataView value) {
     public DataView remove(final DataQuery path) {
         Objects.requireNonNull(path, "path");
         final List<String> parts = path.parts();
-        if (parts.size() > 1) {
-            final String subKey = parts.get(0);
-            final DataQuery subQuery = DataQuery.of(subKey);
-            final Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
-                return this;
-            }
-            final DataView subView = subViewOptional.get();
-            subView.remove(path.popFirst());
-        } else {
-            this.map.remove(parts.get(0));
+        final MemoryDataView view = this.viewFor(parts, false);
+        if (view != null) {
+            view.entries().remove(parts.get(parts.size() - 1));
         }
         return this;
     }
@@ -446,21 +526,7 @@ public DataView createView(final DataQuery path) {
 
         checkArgument(sz != 0, "The size of the query must be at least 1");
 
-        final String key = queryParts.get(0);
-        final DataQuery keyQuery = DataQuery.of(key);
-
-        if (sz == 1) {
-            final DataView result = new MemoryDataView(this, keyQuery, this.safety);
-            this.map.put(key, result);
-            return result;
-        }
-        final DataQuery subQuery = path.popFirst();
-        DataView subView = (DataView) this.map.get(key);
-        if (subView == null) {
-            subView = new MemoryDataView(this.parent, keyQuery, this.safety);
-            this.map.put(key, subView);
-        }
-        return subView.createView(subQuery);
+        return this.viewFor(queryParts, true).createLocalView(queryParts.get(sz - 1));
     }
 
     @Override
@@ -529,13 +595,6 @@ private Optional<DataView> getUnsafeView(final DataQuery path) {
         return this.get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
     }
 
-    private Optional<DataView> getUnsafeView(final String path) {
-        final Object object = this.map.get(path);
-        if (!(object instanceof DataView)) {
-            return Optional.empty();
-        }
-        return Optional.of((DataView) object);
-    }
 
 
     @Override
@@ -820,6 +879,10 @@ public <T> Optional<List<T>> getObjectList(final DataQuery path, final Class<T>
     @Override
     public DataContainer copy() {
         final DataContainer container = new MemoryDataContainer(this.safety);
+        if (this.lazyCompound != null) {
+            ((MemoryDataView) container).lazyCompound = this.lazyCompound;
+            return container;
+        }
         this.keys(false)
             .forEach(query ->
                 this.get(query).ifPresent(obj ->
@@ -832,6 +895,10 @@ public DataContainer copy() {
     @Override
     public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.SafetyMode safety) {
         final DataContainer container = new MemoryDataContainer(safety);
+        if (this.lazyCompound != null) {
+            ((MemoryDataView) container).lazyCompound = this.lazyCompound;
+            return container;
+        }
         this.keys(false)
             .forEach(query ->
                 this.get(query).ifPresent(obj ->
@@ -843,7 +910,7 @@ public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return this.lazyCompound != null ? this.lazyCompound.isEmpty() : this.map.isEmpty();
     }
 
     @Override
@@ -853,7 +920,7 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode safetyMode() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.map, this.path);
+        return Objects.hash(this.entries(), this.path);
     }
 
     @Override
@@ -866,7 +933,7 @@ public boolean equals(final @Nullable Object obj) {
         }
         final MemoryDataView other = (MemoryDataView) obj;
 
-        return com.google.common.base.Objects.equal(this.map.entrySet(), other.map.entrySet())
+        return com.google.common.base.Objects.equal(this.entries().entrySet(), other.entries().entrySet())
             && com.google.common.base.Objects.equal(this.path, other.path);
     }
 
@@ -877,6 +944,6 @@ public String toString() {
             helper.add("path", this.path);
         }
         helper.add("safety", this.safety.name());
-        return helper.add("map", this.map).toString();
+        return helper.add("map", this.entries()).toString();
     }
 }
@@ -0,0 +1,221 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.util.FutureUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes {@link DataView}s with any {@link DataFormat} away from the
+ * calling thread.
+ *
+ * <p>The view is copied on the calling thread, translation, compression and
+ * file I/O then happen on a single serialization thread, so writes to the
+ * same file complete in submission order. At most {@link #MAX_QUEUED_TASKS}
+ * tasks are queued; once the queue is full submitting blocks until there is
+ * room again, which slows producers down instead of letting the queue grow
+ * without bound. Returned futures complete on the serialization thread.</p>
+ */
+public final class AsyncDataSerializer {
+
+    public enum Compression {
+        NONE,
+        GZIP
+    }
+
+    static final int MAX_QUEUED_TASKS = 64;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ThreadPoolExecutor executor;
+
+    public AsyncDataSerializer() {
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(AsyncDataSerializer.MAX_QUEUED_TASKS),
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("Sponge - Data Serialization Thread")
+                        .build(),
+                AsyncDataSerializer::enqueue);
+    }
+
+    private static void enqueue(final Runnable task, final ThreadPoolExecutor executor) {
+        // Never run the task on the submitting thread, it could overtake queued writes to the same file
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("The data serializer has been shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to queue data serialization", e);
+        }
+        // The serialization thread may have already exited if we were shut down while waiting
+        if (executor.isShutdown() && executor.getQueue().remove(task)) {
+            throw new RejectedExecutionException("The data serializer has been shut down");
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, this.executor);
+        } catch (final RejectedExecutionException e) {
+            return FutureUtil.completedWithException(e);
+        }
+    }
+
+    /**
+     * Writes a copy of the given data to a file, replacing it once the data
+     * has been fully written.
+     *
+     * @param format The format to write with
+     * @param data The data to write
+     * @param path The file to write to
+     * @param compression The compression to apply
+     * @return A future completing once the file has been written
+     */
+    public CompletableFuture<Void> write(final DataFormat format, final DataView data, final Path path, final Compression compression) {
+        Objects.requireNonNull(format, "format");
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(compression, "compression");
+        final DataContainer snapshot = Objects.requireNonNull(data, "data").copy();
+        return this.submit(() -> {
+            try {
+                AsyncDataSerializer.writeFile(format, snapshot, path, compression);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Serializes a copy of the given data into memory.
+     *
+     * @param format The format to write with
+     * @param data The data to write
+     * @param compression The compression to apply
+     * @return A future completing with the serialized bytes
+     */
+    public CompletableFuture<byte[]> serialize(final DataFormat format, final DataView data, final Compression compression) {
+        Objects.requireNonNull(format, "format");
+        Objects.requireNonNull(compression, "compression");
+        final DataContainer snapshot = Objects.requireNonNull(data, "data").copy();
+        return this.submit(() -> {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final OutputStream output = new BufferedOutputStream(AsyncDataSerializer.compress(bytes, compression))) {
+                format.writeTo(output, snapshot);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+            return bytes.toByteArray();
+        });
+    }
+
+    /**
+     * Reads data from a file.
+     *
+     * @param format The format to read with
+     * @param path The file to read from
+     * @param compression The compression the file was written with
+     * @return A future completing with the data read
+     */
+    public CompletableFuture<DataContainer> read(final DataFormat format, final Path path, final Compression compression) {
+        Objects.requireNonNull(format, "format");
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(compression, "compression");
+        return this.submit(() -> {
+            // The file is its own resource, so it is closed even if the decompressor fails to read the header
+            try (final InputStream file = Files.newInputStream(path);
+                 final InputStream input = new BufferedInputStream(AsyncDataSerializer.decompress(file, compression))) {
+                return format.readFrom(input);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Completes all queued tasks, waiting for the serialization thread to
+     * finish. Futures of tasks submitted afterwards complete exceptionally.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(AsyncDataSerializer.SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                SpongeCommon.logger().error("Timed out waiting for queued data to be serialized!");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void writeFile(final DataFormat format, final DataContainer data, final Path path, final Compression compression)
+            throws IOException {
+        final Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        final Path tempPath = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            // Buffer in front of the compressor, formats tend to write a few bytes at a time
+            try (final OutputStream file = Files.newOutputStream(tempPath);
+                 final OutputStream output = new BufferedOutputStream(AsyncDataSerializer.compress(file, compression))) {
+                format.writeTo(output, data);
+            }
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private static OutputStream compress(final OutputStream output, final Compression compression) throws IOException {
+        return compression == Compression.GZIP ? new GZIPOutputStream(output) : output;
+    }
+
+    private static InputStream decompress(final InputStream input, final Compression compression) throws IOException {
+        return compression == Compression.GZIP ? new GZIPInputStream(input) : input;
+    }
+}
@@ -30,12 +30,15 @@
 
 import com.google.common.collect.Lists;
 import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataSerializable;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.util.Constants;
 
 import java.util.List;
@@ -73,12 +76,21 @@ private static void containerToCompound(final DataView container, final Compound
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
-        for (Map.Entry<DataQuery, Object> entry : container.values(false).entrySet()) {
-            Object value = entry.getValue();
-            String key = entry.getKey().asString('.');
+        if (container instanceof MemoryDataView) {
+            final @Nullable CompoundTag lazy = ((MemoryDataView) container).getLazyCompound();
+            if (lazy != null) {
+                // Never translated, merging copies the original tags
+                compound.merge(lazy);
+                return;
+            }
+        }
+        // Not values(false), which would translate every nested lazy view just to be thrown away
+        for (final DataQuery query : container.keys(false)) {
+            Object value = container.get(query).get();
+            String key = query.asString('.');
             if (value instanceof DataView) {
                 CompoundTag inner = new CompoundTag();
-                NBTTranslator.containerToCompound(container.getView(entry.getKey()).get(), inner);
+                NBTTranslator.containerToCompound((DataView) value, inner);
                 compound.put(key, inner);
             } else if (value instanceof Boolean) {
                 compound.put(key + NBTTranslator.BOOLEAN_IDENTIFIER, ByteTag.valueOf((Boolean) value));
@@ -170,13 +182,24 @@ private static Tag getBaseFromObject(final Object value) {
 
     private static DataContainer getViewFromCompound(CompoundTag compound) {
         checkNotNull(compound);
-        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        // Copied once so the container is a snapshot, it is then only translated as far as it is read
+        return NBTTranslator.lazyViewFromCompound(compound.copy());
+    }
+
+    private static DataContainer lazyViewFromCompound(final CompoundTag compound) {
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        container.setLazyCompound(compound);
+        return container;
+    }
+
+    private static DataContainer eagerViewFromCompound(final CompoundTag compound) {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
         NBTTranslator.INSTANCE.addTo(compound, container);
         return container;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static void setInternal(Tag base, byte type, DataView view, String key) {
+    private static void setInternal(Tag base, byte type, DataView view, String key, final boolean lazy) {
         checkNotNull(base);
         checkNotNull(view);
         checkNotNull(key);
@@ -217,13 +240,17 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (final Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, lazy));
                 }
                 view.set(of(key), objectList);
                 break;
             case Constants.NBT.TAG_COMPOUND:
                 DataView internalView = view.createView(of(key));
                 CompoundTag compound = (CompoundTag) base;
+                if (lazy) {
+                    ((MemoryDataView) internalView).setLazyCompound(compound);
+                    break;
+                }
                 for (String internalKey : compound.getAllKeys()) {
                     Tag internalBase = compound.get(internalKey);
                     byte internalType = internalBase.getId();
@@ -231,7 +258,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                     // Reasoning: This avoids creating a new DataContainer which would
                     // then be copied in to the owning DataView anyways. We can internally
                     // set the actual data directly to the child view instead.
-                    NBTTranslator.setInternal(internalBase, internalType, internalView, internalKey);
+                    NBTTranslator.setInternal(internalBase, internalType, internalView, internalKey, false);
                 }
                 break;
             case Constants.NBT.TAG_INT_ARRAY:
@@ -246,7 +273,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(Tag base, byte type) {
+    private static Object fromTagBase(Tag base, byte type, final boolean lazy) {
         switch (type) {
             case Constants.NBT.TAG_BYTE:
                 return ((ByteTag) base).getAsByte();
@@ -270,11 +297,11 @@ private static Object fromTagBase(Tag base, byte type) {
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, lazy));
                 }
                 return objectList;
             case Constants.NBT.TAG_COMPOUND:
-                return NBTTranslator.getViewFromCompound((CompoundTag) base);
+                return lazy ? NBTTranslator.lazyViewFromCompound((CompoundTag) base) : NBTTranslator.eagerViewFromCompound((CompoundTag) base);
             case Constants.NBT.TAG_INT_ARRAY:
                 return ((IntArrayTag) base).getAsIntArray();
             case Constants.NBT.TAG_LONG_ARRAY:
@@ -312,8 +339,22 @@ public DataView addTo(CompoundTag compound, DataView container) {
         for (String key : compound.getAllKeys()) {
             Tag base = compound.get(key);
             byte type = base.getId();
-            NBTTranslator.setInternal(base, type, container, key); // gotta love recursion
+            NBTTranslator.setInternal(base, type, container, key, false); // gotta love recursion
         }
         return container;
     }
+
+    /**
+     * Translates the entries of a compound into the given view, deferring
+     * nested compounds to lazily translated views.
+     *
+     * @param compound The compound, which must never be modified afterwards
+     * @param view The view to add to
+     */
+    public void addToLazily(final CompoundTag compound, final MemoryDataView view) {
+        for (String key : compound.getAllKeys()) {
+            Tag base = compound.get(key);
+            NBTTranslator.setInternal(base, base.getId(), view, key, true);
+        }
+    }
 }
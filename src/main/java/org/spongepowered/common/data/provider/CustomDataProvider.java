@@ -25,6 +25,7 @@
 package org.spongepowered.common.data.provider;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
@@ -40,53 +41,67 @@
 public class CustomDataProvider<V extends Value<E>, E> extends MutableDataProvider<V, E> {
 
     private final Set<Type> supportedTokens;
+    private final Class<?>[] supportedClasses;
+    private final boolean supportsBlockEntities;
+    // The supported holder classes never change, so the answer is cached per concrete holder class
+    private final ClassValue<Boolean> supportedHolderClasses = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return SpongeDataHolderBridge.class.isAssignableFrom(type) && CustomDataProvider.this.isAssignableFromAny(type);
+        }
+    };
 
     public CustomDataProvider(final Key<V> key, final Set<Type> supportedTokens) {
         super(key);
         this.supportedTokens = supportedTokens;
+        this.supportedClasses = supportedTokens.stream().map(GenericTypeReflector::erase).toArray(Class<?>[]::new);
+        this.supportsBlockEntities = this.isAssignableFromAny(BlockEntity.class);
+    }
+
+    private boolean isAssignableFromAny(final Class<?> type) {
+        for (final Class<?> supportedClass : this.supportedClasses) {
+            if (supportedClass.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public Optional<E> get(DataHolder dataHolder) {
-        if (this.isSupported(dataHolder)) {
-            final SpongeDataHolderBridge customDataHolder = CustomDataProvider.getCustomDataHolder(dataHolder);
+        final @Nullable SpongeDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
             return customDataHolder.bridge$get(this.key());
         }
         return Optional.empty();
     }
 
-    private static SpongeDataHolderBridge getCustomDataHolder(DataHolder dataHolder) {
-        final SpongeDataHolderBridge customDataHolder;
+    /**
+     * Gets the holder of the custom data for the given {@link DataHolder},
+     * resolving the block entity of a {@link ServerLocation} only once.
+     *
+     * @param dataHolder The data holder
+     * @return The custom data holder, or null if the data holder is not supported
+     */
+    private @Nullable SpongeDataHolderBridge getCustomDataHolder(final DataHolder dataHolder) {
         if (dataHolder instanceof ServerLocation) {
-            customDataHolder = (SpongeDataHolderBridge) ((ServerLocation) dataHolder).blockEntity().get();
-        } else {
-            customDataHolder = (SpongeDataHolderBridge) dataHolder;
+            if (!this.supportsBlockEntities) {
+                return null;
+            }
+            return ((ServerLocation) dataHolder).blockEntity().map(SpongeDataHolderBridge.class::cast).orElse(null);
         }
-        return customDataHolder;
+        if (this.supportedHolderClasses.get(dataHolder.getClass())) {
+            return (SpongeDataHolderBridge) dataHolder;
+        }
+        return null;
     }
 
     @Override
     public boolean isSupported(DataHolder dataHolder) {
         if (dataHolder instanceof ServerLocation) {
-            if (!((ServerLocation) dataHolder).hasBlockEntity()) {
-                return false;
-            }
-            for (final Type type : this.supportedTokens) {
-                if (GenericTypeReflector.erase(type).isAssignableFrom(BlockEntity.class)) {
-                    return true;
-                }
-            }
-            return false;
-        }
-        if (!(dataHolder instanceof SpongeDataHolderBridge)) {
-            return false;
+            return this.supportsBlockEntities && ((ServerLocation) dataHolder).hasBlockEntity();
         }
-        for (final Type type : this.supportedTokens) {
-            if (GenericTypeReflector.erase(type).isAssignableFrom(dataHolder.getClass())) {
-                return true;
-            }
-        }
-        return false;
+        return this.supportedHolderClasses.get(dataHolder.getClass());
     }
 
     @Override
@@ -104,16 +119,18 @@ public boolean isSupported(final Type dataHolder) {
 
     @Override
     public DataTransactionResult offer(DataHolder.Mutable dataHolder, E element) {
-        if (this.isSupported(dataHolder)) {
-            return CustomDataProvider.getCustomDataHolder(dataHolder).bridge$offer(this.key(),  element);
+        final @Nullable SpongeDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
+            return customDataHolder.bridge$offer(this.key(), element);
         }
         return DataTransactionResult.failNoData();
     }
 
     @Override
     public DataTransactionResult remove(DataHolder.Mutable dataHolder) {
-        if (this.isSupported(dataHolder)) {
-            return CustomDataProvider.getCustomDataHolder(dataHolder).bridge$remove(this.key());
+        final @Nullable SpongeDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
+            return customDataHolder.bridge$remove(this.key());
         }
         return DataTransactionResult.failNoData();
     }
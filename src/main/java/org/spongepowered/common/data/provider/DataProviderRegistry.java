@@ -40,6 +40,7 @@
 import org.spongepowered.common.data.provider.item.stack.ItemStackDataProviders;
 import org.spongepowered.common.data.provider.map.MapInfoDataProviders;
 import org.spongepowered.common.data.provider.nbt.NBTDataProviders;
+import org.spongepowered.common.util.StartupProfiler;
 
 import java.util.Collection;
 import java.util.List;
@@ -222,7 +223,8 @@ public void registerDefaultProviders() {
 
     private void registerDefaultProviders(DataProviderRegistratorBuilder... dataProviderRegistratorBuilders) {
         for (DataProviderRegistratorBuilder dataProviderRegistratorBuilder : dataProviderRegistratorBuilders) {
-            dataProviderRegistratorBuilder.register();
+            StartupProfiler.run(StartupProfiler.DATA_PROVIDERS, dataProviderRegistratorBuilder.getClass().getSimpleName(),
+                    dataProviderRegistratorBuilder::register);
         }
     }
 
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.spongepowered.common.util.Constants;
+
+/**
+ * The creator and notifier indices of the tracked block positions of a
+ * chunk. Positions are bucketed per 16x16x16 section and keyed by their
+ * index within the section, with both player indices packed into a single
+ * {@code long} so that no object is allocated per tracked position.
+ */
+public final class PlayerTrackerStorage {
+
+    /**
+     * The packed value of a position that is not tracked.
+     */
+    public static final long UNTRACKED = PlayerTrackerStorage.pack(-1, -1);
+
+    private static final String SECTION_Y = "Y";
+    private static final String POSITIONS = "Positions";
+    private static final String CREATORS = "Creators";
+    private static final String NOTIFIERS = "Notifiers";
+
+    private final Int2ObjectMap<Short2LongMap> sections = new Int2ObjectOpenHashMap<>();
+
+    public static long pack(final int creatorIndex, final int notifierIndex) {
+        return ((long) creatorIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public static int creatorIndex(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int notifierIndex(final long packed) {
+        return (int) packed;
+    }
+
+    private static short sectionIndex(final int x, final int y, final int z) {
+        return (short) (((y & 15) << 8) | ((z & 15) << 4) | (x & 15));
+    }
+
+    public boolean isEmpty() {
+        return this.sections.isEmpty();
+    }
+
+    /**
+     * Gets the packed creator and notifier indices of the position.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The packed indices, or {@link #UNTRACKED}
+     */
+    public long get(final int x, final int y, final int z) {
+        final Short2LongMap section = this.sections.get(y >> 4);
+        if (section == null) {
+            return PlayerTrackerStorage.UNTRACKED;
+        }
+        return section.get(PlayerTrackerStorage.sectionIndex(x, y, z));
+    }
+
+    /**
+     * Sets the packed creator and notifier indices of the position, no
+     * longer tracking it if both are {@code -1}.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param packed The packed indices
+     */
+    public void set(final int x, final int y, final int z, final long packed) {
+        if (packed == PlayerTrackerStorage.UNTRACKED) {
+            this.remove(x, y, z);
+            return;
+        }
+        this.sections.computeIfAbsent(y >> 4, k -> PlayerTrackerStorage.createSection())
+            .put(PlayerTrackerStorage.sectionIndex(x, y, z), packed);
+    }
+
+    public void remove(final int x, final int y, final int z) {
+        final Short2LongMap section = this.sections.get(y >> 4);
+        if (section != null) {
+            section.remove(PlayerTrackerStorage.sectionIndex(x, y, z));
+            if (section.isEmpty()) {
+                this.sections.remove(y >> 4);
+            }
+        }
+    }
+
+    private static Short2LongMap createSection() {
+        final Short2LongMap section = new Short2LongOpenHashMap();
+        section.defaultReturnValue(PlayerTrackerStorage.UNTRACKED);
+        return section;
+    }
+
+    /**
+     * Writes every section as parallel int arrays of section indices,
+     * creator indices and notifier indices.
+     *
+     * @return The sections
+     */
+    public ListTag write() {
+        final ListTag list = new ListTag();
+        for (final Int2ObjectMap.Entry<Short2LongMap> entry : this.sections.int2ObjectEntrySet()) {
+            final Short2LongMap section = entry.getValue();
+            final int[] positions = new int[section.size()];
+            final int[] creators = new int[positions.length];
+            final int[] notifiers = new int[positions.length];
+            int i = 0;
+            for (final Short2LongMap.Entry tracked : section.short2LongEntrySet()) {
+                positions[i] = tracked.getShortKey();
+                creators[i] = PlayerTrackerStorage.creatorIndex(tracked.getLongValue());
+                notifiers[i] = PlayerTrackerStorage.notifierIndex(tracked.getLongValue());
+                i++;
+            }
+            final CompoundTag sectionNbt = new CompoundTag();
+            sectionNbt.putInt(PlayerTrackerStorage.SECTION_Y, entry.getIntKey());
+            sectionNbt.putIntArray(PlayerTrackerStorage.POSITIONS, positions);
+            sectionNbt.putIntArray(PlayerTrackerStorage.CREATORS, creators);
+            sectionNbt.putIntArray(PlayerTrackerStorage.NOTIFIERS, notifiers);
+            list.add(sectionNbt);
+        }
+        return list;
+    }
+
+    public void read(final ListTag list) {
+        for (final Tag tag : list) {
+            final CompoundTag sectionNbt = (CompoundTag) tag;
+            final int sectionY = sectionNbt.getInt(PlayerTrackerStorage.SECTION_Y);
+            final int[] positions = sectionNbt.getIntArray(PlayerTrackerStorage.POSITIONS);
+            final int[] creators = sectionNbt.getIntArray(PlayerTrackerStorage.CREATORS);
+            final int[] notifiers = sectionNbt.getIntArray(PlayerTrackerStorage.NOTIFIERS);
+            final int length = Math.min(positions.length, Math.min(creators.length, notifiers.length));
+            for (int i = 0; i < length; i++) {
+                final int index = positions[i];
+                this.set(index & 15, (sectionY << 4) | (index >> 8 & 15), index >> 4 & 15, PlayerTrackerStorage.pack(creators[i], notifiers[i]));
+            }
+        }
+    }
+
+    /**
+     * Reads the list of compounds that positions were stored in before they
+     * were stored per section, keyed by the positions packed by
+     * {@link Constants.Sponge#blockPosToShort} or
+     * {@link Constants.Sponge#blockPosToInt}.
+     *
+     * @param list The legacy position table
+     */
+    public void readLegacy(final ListTag list) {
+        for (final Tag tag : list) {
+            final CompoundTag data = (CompoundTag) tag;
+            final int creatorIndex = data.contains("owner") ? data.getInt("owner") : -1;
+            final int notifierIndex = data.contains("notifier") ? data.getInt("notifier") : -1;
+            if (data.contains("pos")) {
+                final short pos = data.getShort("pos");
+                this.set(pos & 15, pos >> 4 & 0xFF, pos >> 12 & 15, PlayerTrackerStorage.pack(creatorIndex, notifierIndex));
+            } else {
+                final int pos = data.getInt("ipos");
+                this.set(pos & 15, pos >> 4 & 0xFFFFFF, pos >>> 28, PlayerTrackerStorage.pack(creatorIndex, notifierIndex));
+            }
+        }
+    }
+}
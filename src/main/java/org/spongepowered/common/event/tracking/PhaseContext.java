@@ -27,6 +27,9 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -48,13 +51,17 @@
 
 import java.util.Collections;
 import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.lighting.LevelLightEngine;
 
 /**
  * Similar to {@link Cause} except it can be built continuously and retains no
@@ -92,6 +99,7 @@
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
 
     private @Nullable Object source;
+    private @Nullable Map<ServerLevel, LongSet> pendingLightChecks;
 
     public P source(final Object owner) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
@@ -323,6 +331,45 @@ public TransactionalCaptureSupplier getTransactor() {
         return this.transactor;
     }
 
+    /**
+     * Queues a light check for the given position, to be handed to the light
+     * engine once this context completes. The light engine only enqueues
+     * checks for its next update anyway, so nothing within the phase can
+     * observe the delay, but blocks changed several times only get checked
+     * once.
+     *
+     * @param world The world
+     * @param pos The position to check
+     */
+    public void queueLightCheck(final ServerLevel world, final BlockPos pos) {
+        if (this.isEmpty()) {
+            // The empty context is never closed
+            world.getChunkSource().getLightEngine().checkBlock(pos);
+            return;
+        }
+        if (this.pendingLightChecks == null) {
+            this.pendingLightChecks = new IdentityHashMap<>();
+        }
+        this.pendingLightChecks.computeIfAbsent(world, k -> new LongLinkedOpenHashSet()).add(pos.asLong());
+    }
+
+    private void flushLightChecks() {
+        if (this.pendingLightChecks == null) {
+            return;
+        }
+        final Map<ServerLevel, LongSet> checks = this.pendingLightChecks;
+        this.pendingLightChecks = null;
+        for (final Map.Entry<ServerLevel, LongSet> entry : checks.entrySet()) {
+            final ServerLevel world = entry.getKey();
+            final LevelLightEngine lightEngine = world.getChunkSource().getLightEngine();
+            world.getProfiler().push("queueCheckLight");
+            for (final LongIterator iterator = entry.getValue().iterator(); iterator.hasNext(); ) {
+                lightEngine.checkBlock(BlockPos.of(iterator.nextLong()));
+            }
+            world.getProfiler().pop();
+        }
+    }
+
     public boolean hasCaptures() {
         if (this.transactor != null && !this.transactor.isEmpty()) {
             return true;
@@ -396,6 +443,7 @@ public void close() { // Should never throw an exception
         }
         final PhaseTracker instance = PhaseTracker.getInstance();
         instance.completePhase(this);
+        this.flushLightChecks();
         if (!this.shouldProvideModifiers()) {
             if (this.usedFrame != null) {
                 this.usedFrame.iterator().forEachRemaining(instance::popCauseFrame);
@@ -425,6 +473,7 @@ protected void reset() {
         this.stackTrace = null;
         this.creator = null;
         this.notifier = null;
+        this.pendingLightChecks = null;
         if (this.transactor != null) {
             this.transactor.reset();
         }
@@ -40,8 +40,8 @@
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 import org.spongepowered.common.util.PrettyPrinter;
 
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.function.BiConsumer;
@@ -54,7 +54,7 @@
     boolean cancelled = false;
 
     // Children Definitions
-    @Nullable LinkedList<ResultingTransactionBySideEffect> sideEffects;
+    @Nullable ArrayDeque<ResultingTransactionBySideEffect> sideEffects;
 
     // LinkedList node definitions
     @Nullable GameTransaction<@NonNull ?> previous;
@@ -78,7 +78,7 @@ public TransactionType<? extends E> getTransactionType() {
 
     Deque<ResultingTransactionBySideEffect> getEffects() {
         if (this.sideEffects == null) {
-            this.sideEffects = new LinkedList<>();
+            this.sideEffects = new ArrayDeque<>();
         }
         return this.sideEffects;
     }
@@ -66,8 +66,8 @@
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
@@ -118,9 +118,9 @@ public final boolean isEmpty() {
 
     @SuppressWarnings("unchecked")
     public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect) {
-        final GameTransaction parentTransaction = Optional.ofNullable(this.effect)
-            .map(child -> child.tail)
-            .orElse(Objects.requireNonNull(this.tail));
+        final GameTransaction parentTransaction = this.effect != null && this.effect.tail != null
+            ? this.effect.tail
+            : Objects.requireNonNull(this.tail);
         final EffectTransactor effectTransactor = new EffectTransactor(effect, parentTransaction, this.effect, this);
         this.effect = effect;
         parentTransaction.getEffects().addLast(effect);
@@ -183,7 +183,7 @@ public boolean logTileRemoval(final @Nullable BlockEntity tileentity, final Supp
             // Need to traverse children by "most recent" transactions to "oldest"
             // to verify which transaction could potentially absorb the tile removed
             if (this.tail.hasChildTransactions()) {
-                final LinkedList<ResultingTransactionBySideEffect> sideEffects = this.tail.sideEffects;
+                final Deque<ResultingTransactionBySideEffect> sideEffects = this.tail.sideEffects;
                 final Iterator<ResultingTransactionBySideEffect> iter = sideEffects.descendingIterator();
                 // Nasty way at doing it with an iterator....
                 for (ResultingTransactionBySideEffect sideEffect = iter.next(); iter.hasNext(); sideEffect = iter.next()) {
@@ -27,6 +27,7 @@
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
@@ -75,11 +76,10 @@ public EffectResult processSideEffect(
             || oldState.state.useShapeForLightOcclusion()
         )) {
             // this.profiler.startSection("queueCheckLight");
-            serverWorld.getProfiler().push("queueCheckLight");
             // this.getChunkProvider().getLightManager().checkBlock(pos);
-            serverWorld.getChunkSource().getLightEngine().checkBlock(oldState.pos);
             // this.profiler.endSection();
-            serverWorld.getProfiler().pop();
+            // Sponge - Queue the check on the phase, which hands them over to the light engine once it completes
+            PhaseTracker.getInstance().getPhaseContext().queueLightCheck(serverWorld, oldState.pos);
         }
         return EffectResult.NULL_PASS;
     }
@@ -35,8 +35,8 @@
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -77,7 +77,8 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.chunkEffects = builder.effects;
         this.serverWorld = builder.serverWorld;
         this.sectionSupplier = builder.sectionSupplier;
-        this.wasEmpty = Objects.requireNonNull(builder.sectionSupplier).get().isEmpty();
+        Objects.requireNonNull(builder.sectionSupplier, "ChunkSection must have been recorded!");
+        this.wasEmpty = builder.wasSectionEmpty;
         this.transaction = builder.transaction;
     }
 
@@ -160,7 +161,8 @@ public Builder kickOff(final ChangeBlock transaction) {
         }
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                // Sized for the chunk effects of a ChangeBlock
+                this.effects = new ArrayList<>(9);
             }
             this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
             return this;
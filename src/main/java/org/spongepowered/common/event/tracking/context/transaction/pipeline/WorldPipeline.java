@@ -33,8 +33,8 @@
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -60,8 +60,7 @@ public final class WorldPipeline implements BlockPipeline {
         this.worldEffects = builder.effects;
         this.serverWorld = builder.serverWorld;
         this.sectionSupplier = builder.sectionSupplier;
-        final @Nullable LevelChunkSection chunkSection = Objects.requireNonNull(builder.sectionSupplier).get();
-        this.wasEmpty = chunkSection == null || chunkSection.isEmpty();
+        this.wasEmpty = builder.chunkPipeline.wasEmpty();
         this.chunkPipeline = builder.chunkPipeline;
     }
 
@@ -147,7 +146,8 @@ public static final class Builder {
 
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                // Sized for the effects of a tracked setBlock
+                this.effects = new ArrayList<>(8);
             }
             this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
             return this;
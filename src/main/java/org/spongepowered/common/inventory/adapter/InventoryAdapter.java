@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.Slot;
+import org.spongepowered.common.inventory.adapter.impl.AdapterLogic;
 import org.spongepowered.common.inventory.adapter.impl.BasicInventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
@@ -33,6 +34,9 @@
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
 
 import java.util.Optional;
+import java.util.function.Predicate;
+
+import net.minecraft.world.item.ItemStack;
 
 /**
  * If {@link Inventory} represents the "idea" of an inventory, then an
@@ -66,6 +70,31 @@ public interface InventoryAdapter {
         return BasicInventoryAdapter.forSlot(this.inventoryAdapter$getFabric(), slotLens, (Inventory) this);
     }
 
+    /**
+     * Counts the items in this inventory accepted by the filter, reading the
+     * underlying stacks without copying them.
+     */
+    default int inventoryAdapter$countItems(final Predicate<ItemStack> filter) {
+        return AdapterLogic.countItems(this.inventoryAdapter$getFabric(), this.inventoryAdapter$getRootLens(), filter);
+    }
+
+    /**
+     * Finds the index of the first slot in this inventory holding a stack
+     * accepted by the filter, or -1 if there is none.
+     */
+    default int inventoryAdapter$indexOfItem(final Predicate<ItemStack> filter) {
+        return AdapterLogic.indexOfItem(this.inventoryAdapter$getFabric(), this.inventoryAdapter$getRootLens(), filter);
+    }
+
+    /**
+     * Removes up to limit items accepted by the filter from this inventory
+     * and returns the quantity removed. This bypasses events, see
+     * {@link AdapterLogic#removeItems}.
+     */
+    default int inventoryAdapter$removeItems(final Predicate<ItemStack> filter, final int limit) {
+        return AdapterLogic.removeItems(this.inventoryAdapter$getFabric(), this.inventoryAdapter$getRootLens(), filter, limit, null);
+    }
+
     // TODO check if this is needed?
     default void inventoryAdapter$setSpectatorChest(boolean spectatorChest) {}
 
@@ -40,7 +40,9 @@
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 
 public abstract class AdapterLogic {
@@ -53,63 +55,34 @@ public static InventoryTransactionResult.Poll pollSequential(Fabric fabric, @Nul
             return InventoryTransactionResult.builder().type(Type.NO_SLOT).poll(ItemStackSnapshot.empty()).build();
         }
 
-        InventoryTransactionResult.Builder result = InventoryTransactionResult.builder().type(Type.SUCCESS);
-
-        ItemStack removedType = null; // used when polling from multiple slots
-        int totalPolled = 0;
-
-        for (SlotLens slot : lens.getSlots(fabric)) {
-            net.minecraft.world.item.ItemStack stack = slot.getStack(fabric);
-
-            // Only remove one type of item
-            if (stack.isEmpty() || (removedType != null && !ItemStackUtil.compareIgnoreQuantity(removedType, stack))) {
-                continue;
-            }
-
-            // Poll up to limit items OR entire stack when no limit is set
-            int pollCount = limit != null ? Math.min(stack.getCount(), limit) : stack.getCount();
-
-            net.minecraft.world.item.ItemStack newStack = net.minecraft.world.item.ItemStack.EMPTY;
-            if (pollCount < stack.getCount()) { // is stack not removed completely?
-                newStack = stack.copy();
-                newStack.setCount(newStack.getCount() - pollCount);
-            }
-
-            if (slot.setStack(fabric, newStack)) { // Set new stack
-                SlotAdapter slotAdapter = (SlotAdapter) slot.getAdapter(fabric, null); // TODO parent??
-                result.transaction(new SlotTransaction(slotAdapter, ItemStackUtil.snapshotOf(stack), ItemStackUtil.snapshotOf(newStack)));
-                if (removedType == null) {
-                    removedType = ItemStackUtil.cloneDefensive(stack, 1); // set removed type when first removing
-                }
-                if (limit == null) {
-                    totalPolled = pollCount;
-                    break; // no limit only polls the first non-empty slot
-                }
-                limit -= pollCount; // remove amount polled from slot
-                totalPolled += pollCount;
+        final InventoryTransactionResult.Builder result = InventoryTransactionResult.builder().type(Type.SUCCESS);
+
+        final ItemStack[] removedType = new ItemStack[1]; // used when polling from multiple slots
+        // Only remove one type of item, no limit only polls the first non-empty slot
+        final Predicate<net.minecraft.world.item.ItemStack> filter = stack -> removedType[0] == null
+                || (limit != null && ItemStackUtil.compareIgnoreQuantity(removedType[0], stack));
+        final int maxPolled = limit == null ? Integer.MAX_VALUE : limit;
+        final int totalPolled = AdapterLogic.removeItems(fabric, lens, filter, maxPolled, (slot, stack, newStack) -> {
+            final SlotAdapter slotAdapter = (SlotAdapter) slot.getAdapter(fabric, null); // TODO parent??
+            result.transaction(new SlotTransaction(slotAdapter, ItemStackUtil.snapshotOf(stack), ItemStackUtil.snapshotOf(newStack)));
+            if (removedType[0] == null) {
+                removedType[0] = ItemStackUtil.cloneDefensive(stack, 1); // set removed type when first removing
             }
-            // else setting stack failed - do nothing
+        });
 
-            if (limit != null && limit <= 0) { // polled all items requested
-                break;
-            }
-        }
-
-        if (removedType != null) { // mark dirty if items were removed
-            fabric.fabric$markDirty();
-        }
-
-        if (limit != null && limit > 0) { // not all items requested could be polled
+        if (limit != null && totalPolled < limit) { // not all items requested could be polled
             result.type(Type.FAILURE);
         }
 
-        if (removedType == null) {
-            removedType = ItemStack.empty();
+        final ItemStack polled;
+        if (removedType[0] == null) {
+            polled = ItemStack.empty();
         } else {
-            removedType.setQuantity(totalPolled);
+            polled = removedType[0];
+            polled.setQuantity(totalPolled);
         }
 
-        return result.poll(removedType.createSnapshot()).build();
+        return result.poll(polled.createSnapshot()).build();
     }
 
     public static Optional<ItemStack> peekSequential(Fabric fabric, @Nullable Lens lens) {
@@ -121,15 +94,9 @@ private static Optional<ItemStack> findStack(Fabric fabric, @Nullable Lens lens)
             return Optional.empty();
         }
 
-        for (SlotLens slot : lens.getSlots(fabric)) {
-            net.minecraft.world.item.ItemStack stack = slot.getStack(fabric);
-            if (!stack.isEmpty()) {
-                return ItemStackUtil.cloneDefensiveOptional(stack);
-            }
-        }
-
-        if (lens.slotCount() > 0) {
-            return Optional.of(ItemStack.empty());
+        final int index = AdapterLogic.indexOfItem(fabric, lens, stack -> true);
+        if (index != -1) {
+            return ItemStackUtil.cloneDefensiveOptional(lens.getSlots(fabric).get(index).getStack(fabric));
         }
 
         return Optional.of(ItemStack.empty());
@@ -226,18 +193,106 @@ public static InventoryTransactionResult appendSequential(Fabric fabric, @Nullab
     }
 
     public static int countFreeCapacity(Fabric fabric, Lens lens) {
-        return lens.getSlots(fabric).stream().mapToInt(slot -> slot.getStack(fabric).isEmpty() ? 1 : 0).sum();
+        int free = 0;
+        for (final SlotLens slot : lens.getSlots(fabric)) {
+            if (slot.getStack(fabric).isEmpty()) {
+                free++;
+            }
+        }
+        return free;
     }
 
     public static int countQuantity(Fabric fabric, Lens lens) {
+        return AdapterLogic.countItems(fabric, lens, stack -> true);
+    }
+
+    /**
+     * Counts the items in all non-empty stacks accepted by the filter.
+     *
+     * <p>Works directly on the stacks held by the fabric, the filter must
+     * not modify them.</p>
+     *
+     * @param fabric The inventory to search in
+     * @param lens The lens to search with
+     * @param filter The filter for the stacks to count
+     * @return The total quantity of matching items
+     */
+    public static int countItems(Fabric fabric, Lens lens, Predicate<net.minecraft.world.item.ItemStack> filter) {
         int items = 0;
+        for (final SlotLens slot : lens.getSlots(fabric)) {
+            final net.minecraft.world.item.ItemStack stack = slot.getStack(fabric);
+            if (!stack.isEmpty() && filter.test(stack)) {
+                items += stack.getCount();
+            }
+        }
+        return items;
+    }
 
-        for (int ord = 0; ord < lens.slotCount(); ord++) {
-            net.minecraft.world.item.ItemStack stack = lens.getStack(fabric, ord);
-            items += !stack.isEmpty() ? stack.getCount() : 0;
+    /**
+     * Finds the first non-empty stack accepted by the filter.
+     *
+     * @param fabric The inventory to search in
+     * @param lens The lens to search with
+     * @param filter The filter for the stack to find
+     * @return The slot index relative to the lens, or -1 if none matched
+     */
+    public static int indexOfItem(Fabric fabric, Lens lens, Predicate<net.minecraft.world.item.ItemStack> filter) {
+        final List<SlotLens> slots = lens.getSlots(fabric);
+        for (int ord = 0; ord < slots.size(); ord++) {
+            final net.minecraft.world.item.ItemStack stack = slots.get(ord).getStack(fabric);
+            if (!stack.isEmpty() && filter.test(stack)) {
+                return ord;
+            }
         }
+        return -1;
+    }
 
-        return items;
+    /**
+     * Removes up to <code>limit</code> items from the non-empty stacks
+     * accepted by the filter, in slot order.
+     *
+     * <p>This changes the fabric directly. No events are thrown and no
+     * transactions are created, callers which need them have to build them
+     * from the changes passed to the listener.</p>
+     *
+     * @param fabric The inventory to remove from
+     * @param lens The lens to remove with
+     * @param filter The filter for the stacks to remove from
+     * @param limit The maximum quantity to remove
+     * @param listener The listener notified of every changed slot, if any
+     * @return The quantity actually removed
+     */
+    public static int removeItems(Fabric fabric, Lens lens, Predicate<net.minecraft.world.item.ItemStack> filter, int limit,
+            @Nullable RemovalListener listener) {
+        int removed = 0;
+        for (final SlotLens slot : lens.getSlots(fabric)) {
+            if (removed >= limit) {
+                break;
+            }
+            final net.minecraft.world.item.ItemStack stack = slot.getStack(fabric);
+            if (stack.isEmpty() || !filter.test(stack)) {
+                continue;
+            }
+            final int take = Math.min(stack.getCount(), limit - removed);
+            net.minecraft.world.item.ItemStack newStack = net.minecraft.world.item.ItemStack.EMPTY;
+            if (take < stack.getCount()) { // is stack not removed completely?
+                newStack = stack.copy();
+                newStack.setCount(stack.getCount() - take);
+            }
+            if (!slot.setStack(fabric, newStack)) {
+                continue; // setting stack failed - do nothing
+            }
+            removed += take;
+            if (listener != null) {
+                listener.removed(slot, stack, newStack);
+            }
+        }
+
+        if (removed > 0) {
+            fabric.fabric$markDirty();
+        }
+
+        return removed;
     }
 
     public static int getCapacity(Fabric fabric, Lens lens) {
@@ -263,26 +318,13 @@ public static boolean contains(InventoryAdapter adapter, ItemStack stack, int qu
      */
     public static boolean contains(Fabric fabric, Lens lens, ItemStack stack, int quantity) {
         net.minecraft.world.item.ItemStack nonNullStack = ItemStackUtil.toNative(stack); // Handle null as empty
-        int found = 0;
-        for (int ord = 0; ord < lens.slotCount(); ord++) {
-            net.minecraft.world.item.ItemStack slotStack = lens.getStack(fabric, ord);
-            if (slotStack.isEmpty()) {
-                if (nonNullStack.isEmpty()) {
-                    found++; // Found an empty Slot
-                    if (found >= quantity) {
-                        return true;
-                    }
-                }
-            } else {
-                if (ItemStackUtil.compareIgnoreQuantity(slotStack, stack)) {
-                    found += slotStack.getCount(); // Found a matching stack
-                    if (found >= quantity) {
-                        return true;
-                    }
-                }
-            }
+        final int found;
+        if (nonNullStack.isEmpty()) {
+            found = AdapterLogic.countFreeCapacity(fabric, lens); // Count the empty slots
+        } else {
+            found = AdapterLogic.countItems(fabric, lens, slotStack -> ItemStackUtil.compareIgnoreQuantity(slotStack, nonNullStack));
         }
-        return false;
+        return found > 0 && found >= quantity;
     }
 
     public static boolean contains(InventoryAdapter adapter, ItemType type) {
@@ -290,19 +332,10 @@ public static boolean contains(InventoryAdapter adapter, ItemType type) {
     }
 
     public static boolean contains(Fabric fabric, Lens lens, ItemType type) {
-        for (int ord = 0; ord < lens.slotCount(); ord++) {
-            net.minecraft.world.item.ItemStack slotStack = lens.getStack(fabric, ord);
-            if (slotStack.isEmpty()) {
-                if (type == null || type == ItemTypes.AIR) {
-                    return true; // Found an empty Slot
-                }
-            } else {
-                if (slotStack.getItem() == type) {
-                    return true; // Found a matching stack
-                }
-            }
+        if (type == null || type == ItemTypes.AIR) {
+            return AdapterLogic.countFreeCapacity(fabric, lens) > 0; // Found an empty Slot
         }
-        return false;
+        return AdapterLogic.indexOfItem(fabric, lens, slotStack -> slotStack.getItem() == type) != -1;
     }
 
     public static boolean canFit(Fabric fabric, Lens lens, ItemStack stack) {
@@ -324,4 +357,19 @@ public static boolean canFit(Fabric fabric, Lens lens, ItemStack stack) {
 
         return remaining == 0;
     }
+
+    /**
+     * Notified for every slot changed by
+     * {@link #removeItems(Fabric, Lens, Predicate, int, RemovalListener)}.
+     */
+    @FunctionalInterface
+    public interface RemovalListener {
+
+        /**
+         * @param slot The changed slot
+         * @param stack The stack in the slot before the removal, unchanged
+         * @param newStack The stack now held by the slot
+         */
+        void removed(SlotLens slot, net.minecraft.world.item.ItemStack stack, net.minecraft.world.item.ItemStack newStack);
+    }
 }
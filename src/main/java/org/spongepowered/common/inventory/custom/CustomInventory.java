@@ -94,7 +94,8 @@ public int getContainerSize() {
     @Override
     public boolean isEmpty() {
         for (Inventory inv : this.inventories) {
-            if (inv.totalQuantity() > 0) {
+            // Stops at the first non-empty slot instead of counting everything
+            if (((InventoryAdapter) inv).inventoryAdapter$indexOfItem(stack -> true) != -1) {
                 return false;
             }
         }
@@ -24,23 +24,57 @@
  */
 package org.spongepowered.common.inventory.query;
 
+import com.google.common.collect.MapMaker;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Checks immediate child for matches first.
  * If no match is found matching continues using a depth-first search.
+ *
+ * <p>Queries which can tell from the lens alone whether it may match
+ * (see {@link #structureKey()}) only walk the lens tree once per root lens.
+ * The lenses passing {@link #matchesStructure(Lens)} are remembered in
+ * search order and later executions only test those.</p>
  */
 public abstract class SpongeDepthQuery extends SpongeQuery {
 
+    private static final Map<Object, Map<Lens, Plan>> PLANS = new ConcurrentHashMap<>();
+
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Checks the part of {@link #matches(Lens, Lens, Inventory)} which only
+     * depends on the lens. Lenses failing this check are never matched.
+     *
+     * @param lens The lens
+     * @return Whether the lens may match
+     */
+    protected boolean matchesStructure(Lens lens) {
+        return true;
+    }
+
+    /**
+     * Gets the key under which the lenses passing {@link #matchesStructure(Lens)}
+     * are cached per root lens. Queries with the same structural check must
+     * return equal keys, queries with a different one must not.
+     *
+     * @return The key, or null to search the whole lens tree every time
+     */
+    protected @Nullable Object structureKey() {
+        return null;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
@@ -49,7 +83,16 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
             return lens.getAdapter(fabric, inventory);
         }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        final Object key = this.structureKey();
+        final Map<Lens, Integer> matches;
+        if (key == null) {
+            matches = this.depthFirstSearch(inventory, lens);
+        } else {
+            matches = this.search(inventory, SpongeDepthQuery.PLANS
+                .computeIfAbsent(key, k -> new MapMaker().weakKeys().makeMap())
+                .computeIfAbsent(lens, this::compile));
+        }
+        return this.toResult(inventory, fabric, this.reduce(fabric, lens, matches));
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -73,4 +116,62 @@ private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
 
         return matches;
     }
-}
\ No newline at end of file
+
+    private Map<Lens, Integer> search(final Inventory inventory, final Plan plan) {
+        final Map<Lens, Integer> matches = new LinkedHashMap<>();
+        for (int i = 0; i < plan.lenses.length; i++) {
+            if (this.matches(plan.lenses[i], plan.parents[i], inventory)) {
+                // Same as the merges in depthFirstSearch: first position wins, last offset wins
+                matches.put(plan.lenses[i], plan.offsets[i]);
+            }
+        }
+        return matches;
+    }
+
+    private Plan compile(final Lens root) {
+        final List<Lens> lenses = new ArrayList<>();
+        final List<Lens> parents = new ArrayList<>();
+        final List<Integer> offsets = new ArrayList<>();
+        this.compile(root, 0, lenses, parents, offsets);
+
+        final int[] offsetArray = new int[offsets.size()];
+        for (int i = 0; i < offsetArray.length; i++) {
+            offsetArray[i] = offsets.get(i);
+        }
+        return new Plan(lenses.toArray(new Lens[0]), parents.toArray(new Lens[0]), offsetArray);
+    }
+
+    private void compile(final Lens lens, final int offset, final List<Lens> lenses, final List<Lens> parents, final List<Integer> offsets) {
+        final int childOffset = lens instanceof DelegatingLens ? offset + lens.base() : offset;
+        for (final Lens child : lens.getChildren()) {
+            if (child == null) {
+                continue;
+            }
+            if (!child.getChildren().isEmpty()) {
+                this.compile(child, childOffset, lenses, parents, offsets);
+            }
+            if (this.matchesStructure(child)) {
+                lenses.add(child);
+                parents.add(lens);
+                offsets.add(childOffset);
+            }
+        }
+    }
+
+    /**
+     * The lenses of a lens tree that may match a query, in the order and with
+     * the slot offsets a full depth-first search would yield them.
+     */
+    private static final class Plan {
+
+        final Lens[] lenses;
+        final Lens[] parents;
+        final int[] offsets;
+
+        Plan(final Lens[] lenses, final Lens[] parents, final int[] offsets) {
+            this.lenses = lenses;
+            this.parents = parents;
+            this.offsets = offsets;
+        }
+    }
+}
@@ -35,6 +35,8 @@
 
 public abstract class ItemStackQuery<T> extends SpongeDepthQuery {
 
+    private static final Object SLOT_LENSES = new Object();
+
     private final T arg;
 
     protected ItemStackQuery(T arg) {
@@ -54,6 +56,16 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         return false;
     }
 
+    @Override
+    protected boolean matchesStructure(Lens lens) {
+        return lens instanceof SlotLens;
+    }
+
+    @Override
+    protected Object structureKey() {
+        return ItemStackQuery.SLOT_LENSES;
+    }
+
     protected abstract boolean matches(ItemStack itemStack, T arg);
 
 }
@@ -38,7 +38,17 @@ public TypeQuery(Class<?> targetType) {
 
     @Override
     public boolean matches(Lens lens, Lens parent, Inventory inventory) {
+        return this.matchesStructure(lens);
+    }
+
+    @Override
+    protected boolean matchesStructure(Lens lens) {
         return this.targetType.isAssignableFrom(lens.getAdapterType());
     }
 
+    @Override
+    protected Object structureKey() {
+        return this.targetType;
+    }
+
 }
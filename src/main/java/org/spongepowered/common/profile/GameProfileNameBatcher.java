@@ -0,0 +1,178 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mojang.authlib.Agent;
+import com.mojang.authlib.GameProfileRepository;
+import com.mojang.authlib.ProfileLookupCallback;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.ProfileNotFoundException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Resolves profiles by name through the bulk names endpoint.
+ *
+ * <p>Lookups for the same name share a single request while it is in
+ * flight, distinct names requested within {@link #BATCH_DELAY_MILLIS} of
+ * each other are sent as one bulk request, and names which are known not to
+ * exist are remembered for a minute, mirroring the rate limit of the
+ * Mojang API.</p>
+ */
+final class GameProfileNameBatcher {
+
+    static final int MAX_BATCH_SIZE = 10;
+    static final long BATCH_DELAY_MILLIS = 50;
+
+    private final Supplier<GameProfileRepository> repository;
+    private final ScheduledExecutorService executor;
+    private final Map<String, CompletableFuture<GameProfile>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> missingNames = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<GameProfile>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    GameProfileNameBatcher(final Supplier<GameProfileRepository> repository, final ScheduledExecutorService executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    CompletableFuture<GameProfile> lookup(final String name) {
+        final String key = name.toLowerCase(Locale.ROOT);
+        if (this.missingNames.getIfPresent(key) != null) {
+            final CompletableFuture<GameProfile> result = new CompletableFuture<>();
+            result.completeExceptionally(new ProfileNotFoundException(name));
+            return result;
+        }
+        final CompletableFuture<GameProfile> created = new CompletableFuture<>();
+        final @Nullable CompletableFuture<GameProfile> existing = this.inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        @Nullable Map<String, CompletableFuture<GameProfile>> batch = null;
+        synchronized (this.lock) {
+            this.pending.put(key, created);
+            if (this.pending.size() >= GameProfileNameBatcher.MAX_BATCH_SIZE) {
+                batch = this.pending;
+                this.pending = new LinkedHashMap<>();
+            } else if (!this.flushScheduled) {
+                try {
+                    this.executor.schedule(this::flush, GameProfileNameBatcher.BATCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                    this.flushScheduled = true;
+                } catch (final RejectedExecutionException e) {
+                    this.pending.remove(key);
+                    this.inFlight.remove(key, created);
+                    created.completeExceptionally(e);
+                }
+            }
+        }
+        if (batch != null) {
+            final Map<String, CompletableFuture<GameProfile>> toLookup = batch;
+            try {
+                this.executor.execute(() -> this.lookupBatch(toLookup));
+            } catch (final RejectedExecutionException e) {
+                this.failRemaining(toLookup, e);
+            }
+        }
+        return created;
+    }
+
+    private void flush() {
+        final Map<String, CompletableFuture<GameProfile>> batch;
+        synchronized (this.lock) {
+            this.flushScheduled = false;
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            batch = this.pending;
+            this.pending = new LinkedHashMap<>();
+        }
+        this.lookupBatch(batch);
+    }
+
+    private void lookupBatch(final Map<String, CompletableFuture<GameProfile>> batch) {
+        try {
+            this.repository.get().findProfilesByNames(batch.keySet().toArray(new String[0]), Agent.MINECRAFT, new ProfileLookupCallback() {
+                @Override
+                public void onProfileLookupSucceeded(final com.mojang.authlib.GameProfile profile) {
+                    final String key = profile.getName().toLowerCase(Locale.ROOT);
+                    final @Nullable CompletableFuture<GameProfile> result = batch.remove(key);
+                    if (result != null) {
+                        GameProfileNameBatcher.this.inFlight.remove(key, result);
+                        result.complete(SpongeGameProfile.of(profile));
+                    }
+                }
+
+                @Override
+                public void onProfileLookupFailed(final com.mojang.authlib.GameProfile profile, final Exception exception) {
+                    final String key = profile.getName().toLowerCase(Locale.ROOT);
+                    final @Nullable CompletableFuture<GameProfile> result = batch.remove(key);
+                    if (result == null) {
+                        return;
+                    }
+                    GameProfileNameBatcher.this.inFlight.remove(key, result);
+                    if (exception instanceof com.mojang.authlib.yggdrasil.ProfileNotFoundException) {
+                        GameProfileNameBatcher.this.missingNames.put(key, Boolean.TRUE);
+                        result.completeExceptionally(new ProfileNotFoundException(profile.getName(), exception.getCause()));
+                    } else {
+                        result.completeExceptionally(exception);
+                    }
+                }
+            });
+        } catch (final Exception e) {
+            this.failRemaining(batch, e);
+            return;
+        }
+        // Names the repository silently skipped
+        for (final Map.Entry<String, CompletableFuture<GameProfile>> entry : batch.entrySet()) {
+            this.inFlight.remove(entry.getKey(), entry.getValue());
+            this.missingNames.put(entry.getKey(), Boolean.TRUE);
+            entry.getValue().completeExceptionally(new ProfileNotFoundException(entry.getKey()));
+        }
+    }
+
+    private void failRemaining(final Map<String, CompletableFuture<GameProfile>> batch, final Exception exception) {
+        for (final Map.Entry<String, CompletableFuture<GameProfile>> entry : batch.entrySet()) {
+            this.inFlight.remove(entry.getKey(), entry.getValue());
+            entry.getValue().completeExceptionally(exception);
+        }
+    }
+}
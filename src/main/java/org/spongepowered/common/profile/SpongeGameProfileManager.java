@@ -45,8 +45,10 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -57,6 +59,7 @@ public final class SpongeGameProfileManager implements GameProfileManager {
     private final GameProfileCacheBridge cache;
     private final UncachedGameProfileProvider uncached = new UncachedGameProfileProvider();
     private final ExecutorService gameLookupExecutorService;
+    private final Set<UUID> pendingUserLookups = ConcurrentHashMap.newKeySet();
 
     public SpongeGameProfileManager(final Server server) {
         this.usernameCache = ((SpongeServer) server).getUsernameCache();
@@ -163,13 +166,28 @@ public CompletableFuture<GameProfile> profile(final UUID uniqueId, final boolean
                 }));
     }
 
+    /**
+     * Stops the lookup threads, lookups which were already requested will
+     * still be completed.
+     */
+    public void shutdown() {
+        this.uncached.shutdown();
+        this.gameLookupExecutorService.shutdown();
+    }
+
     public void lookupUserAsync(final UUID uniqueId) {
         Objects.requireNonNull(uniqueId, "uniqueId");
+        // Block tracking requests the same owners over and over, only queue each of them once
+        if (!this.pendingUserLookups.add(uniqueId)) {
+            return;
+        }
         this.gameLookupExecutorService.execute(() -> {
             try {
                 this.basicProfile(uniqueId).get();
             } catch (final InterruptedException | ExecutionException e) {
                 e.printStackTrace();
+            } finally {
+                this.pendingUserLookups.remove(uniqueId);
             }
 
             try {
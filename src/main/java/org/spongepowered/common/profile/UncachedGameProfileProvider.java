@@ -28,13 +28,13 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.mojang.authlib.Agent;
-import com.mojang.authlib.ProfileLookupCallback;
+import com.mojang.authlib.GameProfileRepository;
+import com.mojang.authlib.minecraft.MinecraftSessionService;
 import com.mojang.util.UUIDTypeAdapter;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.core.util.Throwables;
@@ -43,6 +43,7 @@
 import org.spongepowered.api.profile.GameProfileProvider;
 import org.spongepowered.api.profile.ProfileNotFoundException;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -52,24 +53,76 @@
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
 public class UncachedGameProfileProvider implements GameProfileProvider {
 
     private static final Gson GSON = new Gson();
+    private static final String MOJANG_API_HOST = "https://api.mojang.com";
 
-    private <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return SpongeCommon.asyncScheduler().submit(callable);
+    private final Supplier<MinecraftSessionService> sessionService;
+    private final String apiHost;
+    private final ScheduledExecutorService executor;
+    private final GameProfileNameBatcher nameBatcher;
+
+    public UncachedGameProfileProvider() {
+        this(() -> SpongeCommon.server().getProfileRepository(), () -> SpongeCommon.server().getSessionService(),
+                UncachedGameProfileProvider.MOJANG_API_HOST, SpongeConfigs.getCommon().get().world.gameProfileLookupThreads);
+    }
+
+    /**
+     * Creates a provider against the given services, which allows
+     * lookups to be pointed at a stand-in for the Mojang servers.
+     *
+     * @param repository The repository used for name lookups
+     * @param sessionService The session service used for full profiles
+     * @param apiHost The host used for name lookups at a point in time
+     * @param threads The maximum number of concurrent lookups
+     */
+    UncachedGameProfileProvider(final Supplier<GameProfileRepository> repository, final Supplier<MinecraftSessionService> sessionService,
+            final String apiHost, final int threads) {
+        this.sessionService = sessionService;
+        this.apiHost = apiHost;
+        this.executor = Executors.newScheduledThreadPool(Math.max(1, threads), new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Sponge - Profile Lookup Thread #%d")
+                .build());
+        this.nameBatcher = new GameProfileNameBatcher(repository, this.executor);
+    }
+
+    /**
+     * Stops accepting new lookups, lookups which were already requested
+     * will still be completed.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
     }
 
-    private void submit(final Runnable runnable) {
-        SpongeCommon.asyncScheduler().execute(runnable);
+    private <T> CompletableFuture<T> submit(final Callable<T> callable) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            this.executor.execute(() -> {
+                try {
+                    result.complete(callable.call());
+                } catch (final Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
     }
 
     /*
@@ -88,7 +141,7 @@ private void submit(final Runnable runnable) {
 
     private CompletableFuture<@Nullable CachedProfile> requestProfile(final UUID uniqueId) {
         return this.submit(() -> {
-            final com.mojang.authlib.GameProfile mcProfile = SpongeCommon.server().getSessionService().fillProfileProperties(
+            final com.mojang.authlib.GameProfile mcProfile = this.sessionService.get().fillProfileProperties(
                     new com.mojang.authlib.GameProfile(uniqueId, ""), true);
             if (mcProfile == null) {
                 return null;
@@ -173,42 +226,49 @@ public CompletableFuture<GameProfile> basicProfile(final String name, final @Nul
                 return profile;
             });
         }
-        final CompletableFuture<GameProfile> result = new CompletableFuture<>();
-        this.submit(() -> SpongeCommon.server().getProfileRepository().findProfilesByNames(new String[] { name }, Agent.MINECRAFT,
-                new SingleProfileLookupCallback(result)));
-        return result;
+        return this.nameBatcher.lookup(name);
     }
 
     @Override
     public CompletableFuture<Map<String, GameProfile>> basicProfiles(final Iterable<String> names, final @Nullable Instant time) {
         Objects.requireNonNull(names, "names");
-        final CompletableFuture<Map<String, GameProfile>> result = new CompletableFuture<>();
         if (time != null) {
-            this.submit(() -> {
+            return this.submit(() -> {
                 final Map<String, GameProfile> resultMap = new HashMap<>();
                 for (final String name : names) {
-                    try {
-                        final GameProfile profile = this.requestBasicProfileAt(name, time);
-                        if (profile != null) {
-                            resultMap.put(name, profile);
-                        }
-                    } catch (final Exception e) {
-                        result.completeExceptionally(e);
-                        return;
+                    final GameProfile profile = this.requestBasicProfileAt(name, time);
+                    if (profile != null) {
+                        resultMap.put(name, profile);
                     }
                 }
-                result.complete(resultMap);
+                return resultMap;
             });
         }
-        final List<String> nameList = Lists.newArrayList(names);
-        final String[] namesArray = nameList.toArray(new String[0]);
-        this.submit(() -> SpongeCommon.server().getProfileRepository().findProfilesByNames(namesArray, Agent.MINECRAFT,
-                new MapProfileLookupCallback(result, nameList)));
+        final Map<String, CompletableFuture<GameProfile>> lookups = new LinkedHashMap<>();
+        for (final String name : names) {
+            lookups.computeIfAbsent(name, this.nameBatcher::lookup);
+        }
+        final CompletableFuture<Map<String, GameProfile>> result = new CompletableFuture<>();
+        CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture<?>[0])).whenComplete((ignored, ignoredFailure) -> {
+            final Map<String, GameProfile> resultMap = new HashMap<>();
+            for (final Map.Entry<String, CompletableFuture<GameProfile>> entry : lookups.entrySet()) {
+                try {
+                    resultMap.put(entry.getKey(), entry.getValue().join());
+                } catch (final CompletionException e) {
+                    // Names that don't exist are left out of the result
+                    if (!(e.getCause() instanceof ProfileNotFoundException)) {
+                        result.completeExceptionally(e.getCause());
+                        return;
+                    }
+                }
+            }
+            result.complete(resultMap);
+        });
         return result;
     }
 
     private @Nullable GameProfile requestBasicProfileAt(final String name, final Instant time) throws Exception {
-        final URL url = new URL("https://api.mojang.com/user/profiles/minecraft/" + name + "?at=" + time.getEpochSecond());
+        final URL url = new URL(this.apiHost + "/user/profiles/minecraft/" + name + "?at=" + time.getEpochSecond());
         final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
         connection.setRequestMethod("GET");
         connection.connect();
@@ -267,72 +327,4 @@ private GameProfile parseGameProfile(final JsonObject json) {
 
         return new SpongeGameProfile(uniqueId, name, properties.build());
     }
-
-    private static final class SingleProfileLookupCallback implements ProfileLookupCallback {
-
-        private final CompletableFuture<GameProfile> result;
-
-        private SingleProfileLookupCallback(final CompletableFuture<GameProfile> result) {
-            this.result = result;
-        }
-
-        @Override
-        public void onProfileLookupSucceeded(final com.mojang.authlib.GameProfile profile) {
-            this.result.complete(SpongeGameProfile.of(profile));
-        }
-
-        @Override
-        public void onProfileLookupFailed(final com.mojang.authlib.GameProfile profile, final Exception exception) {
-            if (exception instanceof com.mojang.authlib.yggdrasil.ProfileNotFoundException) {
-                this.result.completeExceptionally(new ProfileNotFoundException(profile.getName(), exception.getCause()));
-            } else {
-                this.result.completeExceptionally(exception);
-            }
-        }
-    }
-
-    private static final class MapProfileLookupCallback implements ProfileLookupCallback {
-
-        private final CompletableFuture<Map<String, GameProfile>> result;
-        private final List<String> nameQueue;
-
-        private Map<String, GameProfile> resultMap = new HashMap<>();
-
-        private MapProfileLookupCallback(final CompletableFuture<Map<String, GameProfile>> result, final List<String> nameQueue) {
-            this.result = result;
-            this.nameQueue = nameQueue;
-        }
-
-        public void complete() {
-            if (this.resultMap != null) {
-                this.result.complete(this.resultMap);
-            }
-        }
-
-        @Override
-        public void onProfileLookupSucceeded(final com.mojang.authlib.GameProfile profile) {
-            String originalName = null;
-            while (originalName == null && !this.nameQueue.isEmpty()) {
-                final String name = this.nameQueue.remove(0);
-                if (name.equalsIgnoreCase(profile.getName())) {
-                    originalName = name;
-                }
-            }
-            if (originalName == null) {
-                throw new IllegalStateException();
-            }
-            if (this.resultMap != null) {
-                this.resultMap.put(originalName, SpongeGameProfile.of(profile));
-            }
-        }
-
-        @Override
-        public void onProfileLookupFailed(final com.mojang.authlib.GameProfile profile, final Exception exception) {
-            if (exception instanceof com.mojang.authlib.yggdrasil.ProfileNotFoundException) {
-                return;
-            }
-            this.resultMap = null;
-            this.result.completeExceptionally(exception);
-        }
-    }
 }
@@ -45,7 +45,7 @@ public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier
 
     @Override
     public T get() {
-        return this.defaultHolder.get().registry(this.registry()).value(this.location());
+        return this.resolve(this.defaultHolder.get(), false);
     }
 
     @Override
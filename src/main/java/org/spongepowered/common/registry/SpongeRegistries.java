@@ -35,11 +35,12 @@
 import org.spongepowered.common.accessor.tags.EntityTypeTagsAccessor;
 import org.spongepowered.common.accessor.tags.FluidTagsAccessor;
 import org.spongepowered.common.accessor.tags.ItemTagsAccessor;
+import org.spongepowered.common.util.StartupProfiler;
 
 public final class SpongeRegistries {
 
     public static void registerGlobalRegistries(final SpongeRegistryHolder holder) {
-        VanillaRegistryLoader.load(holder);
+        StartupProfiler.run(StartupProfiler.REGISTRY, "vanilla", () -> VanillaRegistryLoader.load(holder));
 
         holder.createRegistry(RegistryTypes.ACCOUNT_DELETION_RESULT_TYPE, SpongeRegistryLoaders.accountDeletionResultType());
         holder.createRegistry(RegistryTypes.BAN_TYPE, SpongeRegistryLoaders.banType());
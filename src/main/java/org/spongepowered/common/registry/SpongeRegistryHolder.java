@@ -43,6 +43,7 @@
 import org.spongepowered.common.accessor.core.RegistryAccessAccessor;
 import org.spongepowered.common.accessor.resources.ResourceKeyAccessor;
 import org.spongepowered.common.bridge.core.WritableRegistryBridge;
+import org.spongepowered.common.util.StartupProfiler;
 
 import java.util.Map;
 import java.util.Objects;
@@ -90,6 +91,7 @@ public SpongeRegistryHolder(final RegistryAccess.RegistryHolder dynamicAccess) {
 
     public void setRootMinecraftRegistry(final net.minecraft.core.Registry<net.minecraft.core.Registry<?>> rootRegistry) {
         this.roots.put(RegistryRoots.MINECRAFT, rootRegistry);
+        SpongeRegistryReference.invalidateResolvedValues();
     }
 
     @Override
@@ -171,6 +173,17 @@ public <T> Registry<T> createRegistry(
     ) {
         Objects.requireNonNull(type, "type");
 
+        try (final StartupProfiler.Section ignored = StartupProfiler.section(StartupProfiler.REGISTRY, type.root() + "/" + type.location())) {
+            return this.createRegistry0(type, defaultValues, isDynamic, callback);
+        }
+    }
+
+    private <T> Registry<T> createRegistry0(
+            final RegistryType<T> type,
+            final @Nullable InitialRegistryData<T> defaultValues,
+            final boolean isDynamic,
+            final @Nullable BiConsumer<net.minecraft.resources.ResourceKey<T>, T> callback
+    ) {
         final net.minecraft.core.Registry<net.minecraft.core.Registry<?>> root = this.roots.get(type.root());
         if (root == null) {
             throw new ValueNotFoundException(String.format("No '%s' root registry has been defined", type.root()));
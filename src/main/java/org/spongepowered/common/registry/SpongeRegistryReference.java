@@ -37,21 +37,53 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.util.EngineUtil;
 
+import java.lang.ref.WeakReference;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class SpongeRegistryReference<T> extends SpongeRegistryKey<T> implements RegistryReference<T> {
 
+    /**
+     * Bumped whenever registries are created, values are registered or data
+     * packs are reloaded, invalidating every memoized {@link #get(RegistryHolder)}.
+     */
+    private static final AtomicInteger EPOCH = new AtomicInteger();
+
+    private @Nullable Resolved<T> resolved;
+
     public SpongeRegistryReference(final RegistryKey<T> key) {
         super(Objects.requireNonNull(key, "key").registry(), key.location());
     }
 
+    public static void invalidateResolvedValues() {
+        SpongeRegistryReference.EPOCH.incrementAndGet();
+    }
+
     @Override
     public T get(final RegistryHolder holder) {
-        T found = this.getFromHolder(Objects.requireNonNull(holder, "holder"));
-        if (found == null) {
+        return this.resolve(Objects.requireNonNull(holder, "holder"), true);
+    }
+
+    /**
+     * Resolves this reference against the holder, reusing the last resolved
+     * value if it was resolved against the same holder in the current epoch.
+     *
+     * @param holder The registry holder
+     * @param fallback Whether to fall back to the engine and game registries
+     * @return The value
+     */
+    protected final T resolve(final RegistryHolder holder, final boolean fallback) {
+        final int epoch = SpongeRegistryReference.EPOCH.get();
+        final Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.epoch == epoch && resolved.fallback == fallback && resolved.holder.get() == holder) {
+            return resolved.value;
+        }
+
+        T found = this.getFromHolder(holder);
+        if (found == null && fallback) {
             if (holder instanceof Engine) {
                 found = this.getFromHolder(SpongeCommon.game().registries());
             } else if (holder instanceof World) {
@@ -67,6 +99,7 @@ public T get(final RegistryHolder holder) {
             throw new ValueNotFoundException(String.format("No value found for key '%s'", this.location()));
         }
 
+        this.resolved = new Resolved<>(holder, found, epoch, fallback);
         return found;
     }
 
@@ -97,6 +130,22 @@ public T get(final RegistryHolder holder, final Set<RegistryHolder> alternatives
         return (T) regOpt.flatMap(entries -> entries.findValue(this.location())).orElse(null);
     }
 
+    private static final class Resolved<T> {
+
+        // Weak so that a cached world does not outlive its unload
+        final WeakReference<RegistryHolder> holder;
+        final T value;
+        final int epoch;
+        final boolean fallback;
+
+        Resolved(final RegistryHolder holder, final T value, final int epoch, final boolean fallback) {
+            this.holder = new WeakReference<>(holder);
+            this.value = value;
+            this.epoch = epoch;
+            this.fallback = fallback;
+        }
+    }
+
     public static final class FactoryImpl implements RegistryReference.Factory {
 
         @Override
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scoreboard;
+
+import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sends the score changes of every scoreboard once per tick.
+ *
+ * <p>Score changes are queued per objective and owner, so that only the
+ * last value of a tick is sent, and values the players already have are
+ * skipped. Any other scoreboard packet sends the queued scores first, to
+ * keep packets in order.</p>
+ */
+public final class ScoreboardSync {
+
+    private static final Set<ServerScoreboardBridge> PENDING = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private static long queued;
+    private static long coalesced;
+    private static long unchanged;
+    private static long sent;
+
+    private ScoreboardSync() {
+    }
+
+    public static void queued(final ServerScoreboardBridge scoreboard, final boolean replacedPending) {
+        ScoreboardSync.PENDING.add(scoreboard);
+        ScoreboardSync.queued++;
+        if (replacedPending) {
+            ScoreboardSync.coalesced++;
+        }
+    }
+
+    public static void flushed(final int sent, final int unchanged) {
+        ScoreboardSync.sent += sent;
+        ScoreboardSync.unchanged += unchanged;
+    }
+
+    /**
+     * Sends the queued score changes of all scoreboards, called at the end
+     * of every server tick.
+     */
+    public static void flush() {
+        if (ScoreboardSync.PENDING.isEmpty()) {
+            return;
+        }
+        final List<ServerScoreboardBridge> scoreboards = new ArrayList<>(ScoreboardSync.PENDING);
+        ScoreboardSync.PENDING.clear();
+        for (final ServerScoreboardBridge scoreboard : scoreboards) {
+            scoreboard.bridge$flushScores();
+        }
+    }
+
+    public static long queuedScores() {
+        return ScoreboardSync.queued;
+    }
+
+    public static long coalescedScores() {
+        return ScoreboardSync.coalesced;
+    }
+
+    public static long unchangedScores() {
+        return ScoreboardSync.unchanged;
+    }
+
+    public static long sentScorePackets() {
+        return ScoreboardSync.sent;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records wall time, allocated bytes and loaded classes for each step of the
+ * startup lifecycle, then writes them to {@code debug/startup-trace.json} and
+ * logs a summary once the game has loaded.
+ *
+ * <p>Only enabled when {@code debug.startup-trace} is set in the common
+ * config. Sections opened after {@link #finish()} are not recorded.</p>
+ */
+public final class StartupProfiler {
+
+    public static final String LIFECYCLE = "lifecycle";
+    public static final String REGISTRY = "registry";
+    public static final String DATA_PROVIDERS = "data-providers";
+    public static final String PLUGIN = "plugin";
+
+    private static final boolean ENABLED = SpongeConfigs.getCommon().get().debug.startupTrace;
+    private static final int SUMMARY_ENTRIES = 10;
+    private static final Section NOOP = new Section(null, null, 0);
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    private static final List<Entry> ENTRIES = new ArrayList<>();
+    private static volatile boolean finished;
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Opens a section, to be closed with try-with-resources.
+     *
+     * @param category The category, such as {@link #LIFECYCLE}
+     * @param name The name of the step
+     * @return The section
+     */
+    public static Section section(final String category, final String name) {
+        if (!StartupProfiler.ENABLED || StartupProfiler.finished) {
+            return StartupProfiler.NOOP;
+        }
+        return new Section(category, name, StartupProfiler.DEPTH.get()[0]++);
+    }
+
+    public static void run(final String category, final String name, final Runnable runnable) {
+        try (final Section ignored = StartupProfiler.section(category, name)) {
+            runnable.run();
+        }
+    }
+
+    public static void finish() {
+        if (!StartupProfiler.ENABLED || StartupProfiler.finished) {
+            return;
+        }
+        StartupProfiler.finished = true;
+        final List<Entry> entries;
+        synchronized (StartupProfiler.ENTRIES) {
+            entries = new ArrayList<>(StartupProfiler.ENTRIES);
+            StartupProfiler.ENTRIES.clear();
+        }
+        final long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        final long classes = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+
+        final Path file = SpongeCommon.gameDirectory().resolve("debug").resolve("startup-trace.json");
+        try {
+            Files.createDirectories(file.getParent());
+            try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+                gson.toJson(StartupProfiler.toJson(entries, uptime, classes), writer);
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().warn("Failed to write the startup trace to {}", file, e);
+        }
+
+        final PrettyPrinter printer = new PrettyPrinter(100).add("Startup Trace").centre().hr()
+            .kv("JVM uptime", "%d ms", uptime)
+            .kv("Loaded classes", classes)
+            .kv("Report", file.toAbsolutePath())
+            .hr()
+            .table("Step", "Wall (ms)", "Allocated (MB)", "Classes");
+        entries.stream()
+            .filter(e -> StartupProfiler.LIFECYCLE.equals(e.category))
+            .forEach(e -> StartupProfiler.row(printer, e.name, e));
+        final Map<String, List<Entry>> byCategory = entries.stream()
+            .filter(e -> !StartupProfiler.LIFECYCLE.equals(e.category))
+            .collect(Collectors.groupingBy(e -> e.category, LinkedHashMap::new, Collectors.toList()));
+        for (final Map.Entry<String, List<Entry>> category : byCategory.entrySet()) {
+            printer.tr("Slowest " + category.getKey() + " (" + category.getValue().size() + ")", "", "", "");
+            category.getValue().stream()
+                .sorted(Comparator.comparingLong((Entry e) -> e.wallNanos).reversed())
+                .limit(StartupProfiler.SUMMARY_ENTRIES)
+                .forEach(e -> StartupProfiler.row(printer, "  " + e.name, e));
+        }
+        printer.log(SpongeCommon.logger());
+    }
+
+    private static void row(final PrettyPrinter printer, final String name, final Entry entry) {
+        printer.tr(name, String.format("%.1f", entry.wallNanos / 1_000_000D),
+            entry.allocatedBytes < 0 ? "-" : String.format("%.1f", entry.allocatedBytes / (1024D * 1024D)), entry.loadedClasses);
+    }
+
+    private static JsonObject toJson(final List<Entry> entries, final long uptime, final long classes) {
+        final JsonObject root = new JsonObject();
+        root.addProperty("version", 1);
+        root.addProperty("jvmUptimeMillis", uptime);
+        root.addProperty("loadedClasses", classes);
+        final JsonArray array = new JsonArray();
+        for (final Entry entry : entries) {
+            final JsonObject object = new JsonObject();
+            object.addProperty("category", entry.category);
+            object.addProperty("name", entry.name);
+            object.addProperty("depth", entry.depth);
+            object.addProperty("thread", entry.thread);
+            object.addProperty("startMillis", entry.startMillis);
+            object.addProperty("wallMicros", TimeUnit.NANOSECONDS.toMicros(entry.wallNanos));
+            object.addProperty("allocatedBytes", entry.allocatedBytes);
+            object.addProperty("loadedClasses", entry.loadedClasses);
+            array.add(object);
+        }
+        root.add("sections", array);
+        return root;
+    }
+
+    private static long allocatedBytes() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public static final class Section implements AutoCloseable {
+
+        private final String category;
+        private final String name;
+        private final int depth;
+        private final long startMillis;
+        private final long startNanos;
+        private final long startAllocated;
+        private final long startClasses;
+
+        Section(final String category, final String name, final int depth) {
+            this.category = category;
+            this.name = name;
+            this.depth = depth;
+            if (category == null) {
+                this.startMillis = 0;
+                this.startNanos = 0;
+                this.startAllocated = 0;
+                this.startClasses = 0;
+                return;
+            }
+            this.startMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            this.startAllocated = StartupProfiler.allocatedBytes();
+            this.startClasses = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (this.category == null) {
+                return;
+            }
+            final long wall = System.nanoTime() - this.startNanos;
+            final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+            final long allocated = StartupProfiler.allocatedBytes();
+            StartupProfiler.DEPTH.get()[0]--;
+            final Entry entry = new Entry(this.category, this.name, this.depth, Thread.currentThread().getName(), this.startMillis, wall,
+                allocated < 0 || this.startAllocated < 0 ? -1 : allocated - this.startAllocated,
+                classLoading.getTotalLoadedClassCount() - this.startClasses);
+            synchronized (StartupProfiler.ENTRIES) {
+                if (!StartupProfiler.finished) {
+                    StartupProfiler.ENTRIES.add(entry);
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final String category;
+        final String name;
+        final int depth;
+        final String thread;
+        final long startMillis;
+        final long wallNanos;
+        final long allocatedBytes;
+        final long loadedClasses;
+
+        Entry(final String category, final String name, final int depth, final String thread, final long startMillis, final long wallNanos,
+            final long allocatedBytes, final long loadedClasses) {
+            this.category = category;
+            this.name = name;
+            this.depth = depth;
+            this.thread = thread;
+            this.startMillis = startMillis;
+            this.wallNanos = wallNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.loadedClasses = loadedClasses;
+        }
+    }
+}
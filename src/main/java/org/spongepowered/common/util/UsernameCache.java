@@ -26,6 +26,7 @@
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
@@ -35,29 +36,73 @@
 import org.spongepowered.common.SpongeCommon;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Keeps track of the last known username of every unique id seen by the
+ * server, with a case-insensitive reverse lookup.
+ *
+ * <p>The cache is persisted as a full json snapshot plus an append-only
+ * journal of the changes made since that snapshot. Saving only appends the
+ * pending changes to the journal, the snapshot is rewritten (compacted) once
+ * the journal grows past {@link #COMPACTION_MIN_ENTRIES} entries and half
+ * the size of the cache. All file I/O happens on a dedicated save thread.</p>
+ */
 public final class UsernameCache {
 
     private static final Charset CHARSET = Charsets.UTF_8;
+    private static final char SET = '+';
+    private static final char REMOVE = '-';
+    private static final char SEPARATOR = '\t';
+    static final int COMPACTION_MIN_ENTRIES = 4096;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
 
     private final Map<UUID, String> usernameByUniqueId;
+    private final Map<String, UUID> uniqueIdByLowerUsername;
+    // Names held by more than one unique id, mapped to the number of additional holders. Only accessed while synchronized
+    private final Map<String, Integer> sharedLowerUsernames;
+    private final Queue<String> pendingJournalEntries;
     private final Gson gson;
     private final Path cacheFile;
-    private boolean dirty = false;
+    private final Path journalFile;
+    private final ExecutorService saveExecutor;
+    // Only accessed from the save thread, or before it is used
+    private int journalEntries;
 
     public UsernameCache(final Server server) {
+        this(server.game().gameDirectory().resolve("usernamecache.json"));
+    }
+
+    UsernameCache(final Path cacheFile) {
         this.usernameByUniqueId = new ConcurrentHashMap<>();
+        this.uniqueIdByLowerUsername = new ConcurrentHashMap<>();
+        this.sharedLowerUsernames = new HashMap<>();
+        this.pendingJournalEntries = new ConcurrentLinkedQueue<>();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
-        this.cacheFile = server.game().gameDirectory().resolve("usernamecache.json");
+        this.cacheFile = cacheFile;
+        this.journalFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".journal");
+        this.saveExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Sponge - Username Cache Save Thread")
+                .build());
     }
 
     public void setUsername(final UUID uniqueId, final String username) {
@@ -68,19 +113,22 @@ public void setUsername(final UUID uniqueId, final String username) {
             return;
         }
 
-        this.usernameByUniqueId.put(uniqueId, username);
-        this.dirty = true;
+        synchronized (this) {
+            this.put(uniqueId, username);
+            this.pendingJournalEntries.add(UsernameCache.SET + uniqueId.toString() + UsernameCache.SEPARATOR + username);
+        }
     }
 
     public boolean removeUsername(final UUID uniqueId) {
         Preconditions.checkNotNull(uniqueId);
 
-        if (this.usernameByUniqueId.remove(uniqueId) != null) {
-            this.dirty = true;
-            return true;
+        synchronized (this) {
+            if (!this.remove(uniqueId)) {
+                return false;
+            }
+            this.pendingJournalEntries.add(UsernameCache.REMOVE + uniqueId.toString());
         }
-
-        return false;
+        return true;
     }
 
     public @Nullable String getLastKnownUsername(final UUID uniqueId) {
@@ -92,13 +140,7 @@ public boolean removeUsername(final UUID uniqueId) {
     public @Nullable UUID getLastKnownUUID(final String username) {
         Preconditions.checkNotNull(username);
 
-        for (Map.Entry<UUID, String> mapEntry : this.usernameByUniqueId.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
-            }
-        }
-
-        return null;
+        return this.uniqueIdByLowerUsername.get(username.toLowerCase(Locale.ROOT));
     }
 
     public boolean containsUUID(final UUID uniqueId) {
@@ -111,43 +153,177 @@ public Map<UUID, String> getAll() {
         return Collections.unmodifiableMap(this.usernameByUniqueId);
     }
 
-    public void load() {
-        this.usernameByUniqueId.clear();
+    private void put(final UUID uniqueId, final String username) {
+        final @Nullable String previous = this.usernameByUniqueId.put(uniqueId, username);
+        if (previous != null) {
+            this.unlink(previous.toLowerCase(Locale.ROOT), uniqueId);
+        }
+        // Names can be reused by other accounts, the most recently seen one wins
+        final String lowerUsername = username.toLowerCase(Locale.ROOT);
+        final @Nullable UUID holder = this.uniqueIdByLowerUsername.put(lowerUsername, uniqueId);
+        if (holder != null && !holder.equals(uniqueId)) {
+            this.sharedLowerUsernames.merge(lowerUsername, 1, Integer::sum);
+        }
+    }
 
-        if (Files.notExists(this.cacheFile)) {
+    private boolean remove(final UUID uniqueId) {
+        final @Nullable String previous = this.usernameByUniqueId.remove(uniqueId);
+        if (previous == null) {
+            return false;
+        }
+        this.unlink(previous.toLowerCase(Locale.ROOT), uniqueId);
+        return true;
+    }
+
+    private void unlink(final String lowerUsername, final UUID uniqueId) {
+        final @Nullable Integer others = this.sharedLowerUsernames.get(lowerUsername);
+        if (others == null) {
+            this.uniqueIdByLowerUsername.remove(lowerUsername, uniqueId);
             return;
         }
+        if (others == 1) {
+            this.sharedLowerUsernames.remove(lowerUsername);
+        } else {
+            this.sharedLowerUsernames.put(lowerUsername, others - 1);
+        }
+        if (!uniqueId.equals(this.uniqueIdByLowerUsername.get(lowerUsername))) {
+            return;
+        }
+        // The name is still held by someone else, which one isn't tracked so fall back to a scan
+        for (final Map.Entry<UUID, String> entry : this.usernameByUniqueId.entrySet()) {
+            if (!entry.getKey().equals(uniqueId) && entry.getValue().toLowerCase(Locale.ROOT).equals(lowerUsername)) {
+                this.uniqueIdByLowerUsername.put(lowerUsername, entry.getKey());
+                return;
+            }
+        }
+        this.uniqueIdByLowerUsername.remove(lowerUsername, uniqueId);
+    }
 
-        try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
-            final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
-            this.usernameByUniqueId.putAll(this.gson.fromJson(reader, type));
-        } catch (final JsonSyntaxException e) {
-            SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
-            this.deleteCacheFile();
-        } catch (final IOException e) {
-            SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
-            this.deleteCacheFile();
+    public synchronized void load() {
+        this.usernameByUniqueId.clear();
+        this.uniqueIdByLowerUsername.clear();
+        this.sharedLowerUsernames.clear();
+        this.pendingJournalEntries.clear();
+        this.journalEntries = 0;
+
+        if (Files.exists(this.cacheFile)) {
+            try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
+                final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
+                final @Nullable Map<UUID, String> snapshot = this.gson.fromJson(reader, type);
+                if (snapshot != null) {
+                    snapshot.forEach(this::put);
+                }
+            } catch (final JsonSyntaxException e) {
+                SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
+                this.deleteCacheFile(this.cacheFile);
+            } catch (final IOException e) {
+                SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
+                this.deleteCacheFile(this.cacheFile);
+            }
+        }
+
+        if (Files.exists(this.journalFile)) {
+            try (final BufferedReader reader = Files.newBufferedReader(this.journalFile, UsernameCache.CHARSET)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    this.replay(line);
+                    this.journalEntries++;
+                }
+            } catch (final IOException | IllegalArgumentException e) {
+                // A partially written last line is expected after a crash, everything before it is still valid
+                SpongeCommon.logger().error("Failed to read username cache journal from disk, ignoring the remainder", e);
+            }
+        }
+    }
+
+    private void replay(final String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+        final char op = line.charAt(0);
+        if (op == UsernameCache.SET) {
+            final int separator = line.indexOf(UsernameCache.SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed username cache journal entry: " + line);
+            }
+            this.put(UUID.fromString(line.substring(1, separator)), line.substring(separator + 1));
+        } else if (op == UsernameCache.REMOVE) {
+            this.remove(UUID.fromString(line.substring(1)));
+        } else {
+            throw new IllegalArgumentException("Malformed username cache journal entry: " + line);
         }
     }
 
-    private void deleteCacheFile() {
+    private void deleteCacheFile(final Path file) {
         try {
-            Files.deleteIfExists(this.cacheFile);
+            Files.deleteIfExists(file);
         } catch (IOException e) {
             SpongeCommon.logger().error("Failed to delete username cache file from disk!", e);
         }
     }
 
+    /**
+     * Persists all pending changes, asynchronously.
+     */
     public void save() {
-        if (!this.dirty) {
+        if (this.pendingJournalEntries.isEmpty()) {
+            return;
+        }
+        this.saveExecutor.execute(this::writeJournal);
+    }
+
+    /**
+     * Persists all pending changes and waits for the save thread to
+     * complete.
+     */
+    public void shutdown() {
+        this.saveExecutor.execute(this::writeJournal);
+        this.saveExecutor.shutdown();
+        try {
+            if (!this.saveExecutor.awaitTermination(UsernameCache.SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                SpongeCommon.logger().error("Timed out waiting for the username cache to be saved!");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void writeJournal() {
+        if (this.pendingJournalEntries.isEmpty()) {
+            return;
+        }
+        try (final BufferedWriter writer = Files.newBufferedWriter(this.journalFile, UsernameCache.CHARSET,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            String entry;
+            while ((entry = this.pendingJournalEntries.poll()) != null) {
+                writer.write(entry);
+                writer.newLine();
+                this.journalEntries++;
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Failed to save username cache journal to file!", e);
             return;
         }
 
+        if (this.journalEntries >= UsernameCache.COMPACTION_MIN_ENTRIES && this.journalEntries >= this.usernameByUniqueId.size() / 2) {
+            this.compact();
+        }
+    }
+
+    private void compact() {
+        // Changes made after this copy are still queued, replaying them again on top of the snapshot is harmless
+        final Map<UUID, String> snapshot = new HashMap<>(this.usernameByUniqueId);
+        final Path tmp = this.cacheFile.resolveSibling(this.cacheFile.getFileName() + ".tmp");
+        try (final BufferedWriter writer = Files.newBufferedWriter(tmp, UsernameCache.CHARSET)) {
+            this.gson.toJson(snapshot, writer);
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Failed to save username cache to file!", e);
+            return;
+        }
         try {
-            // Make sure we don't save when another thread is still saving
-            final String serialized = this.gson.toJson(this.usernameByUniqueId);
-            Files.write(this.cacheFile, serialized.getBytes(UsernameCache.CHARSET));
-            this.dirty = false;
+            Files.move(tmp, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(this.journalFile);
+            this.journalEntries = 0;
         } catch (final IOException e) {
             SpongeCommon.logger().error("Failed to save username cache to file!", e);
         }
@@ -37,7 +37,6 @@
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -45,6 +44,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import net.minecraft.util.Mth;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 
@@ -61,6 +61,7 @@
     @Nullable Predicate<LocatableBlock> continueWhileBlock = null;
     @Nullable Predicate<Entity> continueWhileEntity = null;
     @Nullable Predicate<ServerLocation> continueWhileLocation = null;
+    private @Nullable ChunkEntityCache entityCache;
 
     AbstractSpongeRayTrace(final Predicate<T> defaultFilter) {
         this.defaultFilter = defaultFilter;
@@ -153,95 +154,140 @@
     public @NonNull Optional<RayTraceResult<@NonNull T>> execute() {
         this.setupEnd();
 
+        final ServerWorld serverWorld = Sponge.server().worldManager().world(this.world)
+                .orElseThrow(() -> new IllegalStateException("World with key " + this.world.formatted() + " is not loaded!"));
+        return this.execute(serverWorld, null);
+    }
+
+    /**
+     * Walks the voxels along the ray with a DDA traversal held entirely in
+     * primitives, only creating objects where the filters and results
+     * require them.
+     *
+     * @param serverWorld The world to trace in
+     * @param entityCache The entity lookups shared by a batch, if any
+     * @return The result
+     */
+    final Optional<RayTraceResult<@NonNull T>> execute(final ServerWorld serverWorld, final @Nullable ChunkEntityCache entityCache) {
+        final double startX = this.start.x();
+        final double startY = this.start.y();
+        final double startZ = this.start.z();
+        final double endX = this.end.x();
+        final double endY = this.end.y();
+        final double endZ = this.end.z();
+
         // get the direction
-        final Vector3d directionWithLength = this.end.sub(this.start);
-        final double length = directionWithLength.length();
-        final Vector3d direction = directionWithLength.normalize();
-        if (direction.lengthSquared() == 0) {
+        final double length = Math.sqrt((endX - startX) * (endX - startX) + (endY - startY) * (endY - startY) + (endZ - startZ) * (endZ - startZ));
+        if (length == 0) {
             throw new IllegalStateException("The start and end must be two different vectors");
         }
+        final double directionX = (endX - startX) / length;
+        final double directionY = (endY - startY) / length;
+        final double directionZ = (endZ - startZ) / length;
 
-        final ServerWorld serverWorld = Sponge.server().worldManager().world(this.world)
-                .orElseThrow(() -> new IllegalStateException("World with key " + this.world.formatted() + " is not loaded!"));
-
-        Vector3i currentBlock = this.initialBlock(direction);
-        final Vector3i steps = this.createSteps(direction);
+        int blockX = Mth.floor(startX - (directionX < 0 && startX == 0 ? 1 : 0));
+        int blockY = Mth.floor(startY - (directionY < 0 && startY == 0 ? 1 : 0));
+        int blockZ = Mth.floor(startZ - (directionZ < 0 && startZ == 0 ? 1 : 0));
+        final int stepX = (int) Math.signum(directionX);
+        final int stepY = (int) Math.signum(directionY);
+        final int stepZ = (int) Math.signum(directionZ);
 
         // The ray equation is, vec(u) + t vec(d). From a point (x, y), there is a t
         // that we need to traverse to get to a boundary. We work that out now...
-        TData tData = this.createInitialTData(direction);
-        Vector3d currentLocation = new Vector3d(this.start.x(), this.start.y(), this.start.z());
-        final boolean requiresEntityTracking = this.requiresEntityTracking();
+        double totalT = 0;
+        double tToX = AbstractSpongeRayTrace.getT(startX, directionX, endX);
+        double tToY = AbstractSpongeRayTrace.getT(startY, directionY, endY);
+        double tToZ = AbstractSpongeRayTrace.getT(startZ, directionZ, endZ);
 
-        boolean requireAdvancement = true;
-        while (requireAdvancement) {
-            final net.minecraft.world.phys.Vec3 vec3dstart = VecHelper.toVanillaVector3d(currentLocation);
-            // As this iteration is for the CURRENT block location, we need to check where we are with the filter.
-            if (this.continueWhileLocation != null && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, currentBlock))) {
-                return Optional.empty();
-            }
-            final Vector3d nextLocation;
-            final net.minecraft.world.phys.Vec3 vec3dend;
-            if (tData.getTotalTWithNextStep() > length) {
-                // This is the last step, we break out of the loop after this set of checks.
-                requireAdvancement = false;
-                nextLocation = this.end;
-                vec3dend = VecHelper.toVanillaVector3d(this.end);
-            } else {
-                nextLocation = currentLocation.add(
-                        direction.x() * tData.getNextStep(),
-                        direction.y() * tData.getNextStep(),
-                        direction.z() * tData.getNextStep()
-                );
-                vec3dend = VecHelper.toVanillaVector3d(nextLocation);
-            }
-
-            // Get the selection result.
-            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(serverWorld, vec3dstart, vec3dend);
-            if (result.isPresent() && !this.shouldCheckFailures()) {
-                // either this is a block ray, so no failures need to be checked, else
-                // we return the entity later if there isn't an entity in front of it
-                // that's blocking the view.
-                return result;
-            }
+        final boolean requiresEntityTracking = this.requiresEntityTracking();
+        this.entityCache = entityCache;
+        try {
+            net.minecraft.world.phys.Vec3 vec3dstart = new net.minecraft.world.phys.Vec3(startX, startY, startZ);
+            boolean requireAdvancement = true;
+            while (requireAdvancement) {
+                // As this iteration is for the CURRENT block location, we need to check where we are with the filter.
+                if (this.continueWhileLocation != null
+                        && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, new Vector3i(blockX, blockY, blockZ)))) {
+                    return Optional.empty();
+                }
+                final double nextStep = Math.min(tToX, Math.min(tToY, tToZ));
+                final net.minecraft.world.phys.Vec3 vec3dend;
+                if (totalT + nextStep > length) {
+                    // This is the last step, we break out of the loop after this set of checks.
+                    requireAdvancement = false;
+                    vec3dend = new net.minecraft.world.phys.Vec3(endX, endY, endZ);
+                } else {
+                    vec3dend = new net.minecraft.world.phys.Vec3(
+                            vec3dstart.x + directionX * nextStep,
+                            vec3dstart.y + directionY * nextStep,
+                            vec3dstart.z + directionZ * nextStep
+                    );
+                }
 
-            // Ensure that the block can be travelled through.
-            if (!this.shouldAdvanceThroughBlock(serverWorld, vec3dstart, vec3dend)) {
-                return Optional.empty();
-            }
+                // Get the selection result.
+                final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(serverWorld, vec3dstart, vec3dend);
+                if (result.isPresent() && !this.shouldCheckFailures()) {
+                    // either this is a block ray, so no failures need to be checked, else
+                    // we return the entity later if there isn't an entity in front of it
+                    // that's blocking the view.
+                    return result;
+                }
 
-            // Ensure that the entities in the block can be travelled through.
-            if (requiresEntityTracking && this.continueWhileEntity != null) {
-                final double resultDistance;
-                if (result.isPresent()) {
-                    resultDistance = result.get().hitPosition().distanceSquared(currentLocation);
-                } else {
-                    resultDistance = Double.MAX_VALUE;
+                // Ensure that the block can be travelled through.
+                if (!this.shouldAdvanceThroughBlock(serverWorld, vec3dstart, vec3dend)) {
+                    return Optional.empty();
                 }
-                final AABB targetAABB = this.getBlockAABB(currentBlock);
-                for (final net.minecraft.world.entity.Entity entity : this.getFailingEntities(serverWorld, targetAABB)) {
-                    final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(vec3dstart, vec3dend);
-                    if (vec3d.isPresent()) {
-                        final net.minecraft.world.phys.Vec3 hitPosition = vec3d.get();
-                        final double sqdist = hitPosition.distanceToSqr(vec3dstart);
-                        if (sqdist < resultDistance) {
-                            // We have a failure, so at this point we just bail out and end the trace.
-                            return Optional.empty();
+
+                // Ensure that the entities in the block can be travelled through.
+                if (requiresEntityTracking && this.continueWhileEntity != null) {
+                    final double resultDistance;
+                    if (result.isPresent()) {
+                        final Vector3d hit = result.get().hitPosition();
+                        resultDistance = vec3dstart.distanceToSqr(hit.x(), hit.y(), hit.z());
+                    } else {
+                        resultDistance = Double.MAX_VALUE;
+                    }
+                    final AABB targetAABB = AbstractSpongeRayTrace.getBlockAABB(blockX, blockY, blockZ);
+                    for (final net.minecraft.world.entity.Entity entity : this.getFailingEntities(serverWorld, targetAABB)) {
+                        final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(vec3dstart, vec3dend);
+                        if (vec3d.isPresent()) {
+                            final net.minecraft.world.phys.Vec3 hitPosition = vec3d.get();
+                            final double sqdist = hitPosition.distanceToSqr(vec3dstart);
+                            if (sqdist < resultDistance) {
+                                // We have a failure, so at this point we just bail out and end the trace.
+                                return Optional.empty();
+                            }
                         }
                     }
                 }
-            }
 
-            // If we still have a result at this point, return it.
-            if (result.isPresent()) {
-                return result;
-            }
+                // If we still have a result at this point, return it.
+                if (result.isPresent()) {
+                    return result;
+                }
 
-            if (requireAdvancement) {
-                currentLocation = nextLocation;
-                currentBlock = this.getNextBlock(currentBlock, tData, steps);
-                tData = this.advance(tData, steps, direction);
+                if (requireAdvancement) {
+                    vec3dstart = vec3dend;
+                    final boolean advanceX = tToX <= nextStep;
+                    final boolean advanceY = tToY <= nextStep;
+                    final boolean advanceZ = tToZ <= nextStep;
+                    if (advanceX) {
+                        blockX += stepX;
+                    }
+                    if (advanceY) {
+                        blockY += stepY;
+                    }
+                    if (advanceZ) {
+                        blockZ += stepZ;
+                    }
+                    totalT += nextStep;
+                    tToX = advanceX ? stepX / directionX : tToX - nextStep;
+                    tToY = advanceY ? stepY / directionY : tToY - nextStep;
+                    tToZ = advanceZ ? stepZ / directionZ : tToZ - nextStep;
+                }
             }
+        } finally {
+            this.entityCache = null;
         }
 
         return Optional.empty();
@@ -259,29 +305,21 @@
         return this;
     }
 
-    final Vector3i getNextBlock(final Vector3i current, final TData data, final Vector3i steps) {
-        return current.add(
-                data.nextStepWillAdvanceX() ? steps.x() : 0,
-                data.nextStepWillAdvanceY() ? steps.y() : 0,
-                data.nextStepWillAdvanceZ() ? steps.x() : 0
-        );
-    }
-
-    final Vector3i createSteps(final Vector3d direction) {
-        return new Vector3i(
-                Math.signum(direction.x()),
-                Math.signum(direction.y()),
-                Math.signum(direction.z())
-        );
+    static AABB getBlockAABB(final int x, final int y, final int z) {
+        return new AABB(x, y, z, x + 1, y + 1, z + 1);
     }
 
-    final AABB getBlockAABB(final Vector3i currentBlock) {
-        return new AABB(currentBlock.x(),
-                currentBlock.y(), currentBlock.z(), currentBlock.x() + 1, currentBlock.y() + 1, currentBlock.z() + 1);
+    private List<net.minecraft.world.entity.Entity> getFailingEntities(final ServerWorld serverWorld, final AABB targetAABB) {
+        final Predicate<Entity> continueWhileEntity = this.continueWhileEntity;
+        return this.getEntities(serverWorld, targetAABB, entity -> !continueWhileEntity.test((Entity) entity));
     }
 
-    private List<net.minecraft.world.entity.Entity> getFailingEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.continueWhileEntity.negate());
+    final List<net.minecraft.world.entity.Entity> getEntities(final ServerWorld serverWorld, final AABB targetAABB,
+            final Predicate<net.minecraft.world.entity.Entity> filter) {
+        if (this.entityCache != null) {
+            return this.entityCache.getEntities(targetAABB, filter);
+        }
+        return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, filter);
     }
 
     boolean requiresEntityTracking() {
@@ -338,34 +376,7 @@ final void setupEnd() {
         }
     }
 
-    final Vector3i initialBlock(final Vector3d direction) {
-        return new Vector3i(
-                this.start.x() - (direction.x() < 0 && this.start.x() == 0 ? 1 : 0),
-                this.start.y() - (direction.y() < 0 && this.start.y() == 0 ? 1 : 0),
-                this.start.z() - (direction.z() < 0 && this.start.z() == 0 ? 1 : 0)
-        );
-    }
-
-    final TData createInitialTData(final Vector3d direction) {
-        return new TData(
-                0,
-                this.getT(this.start.x(), direction.x(), this.end.x()),
-                this.getT(this.start.y(), direction.y(), this.end.y()),
-                this.getT(this.start.z(), direction.z(), this.end.z())
-        );
-    }
-
-    final TData advance(final TData data, final Vector3i steps, final Vector3d direction) {
-        final double nextStep = data.getNextStep();
-        return new TData(
-                data.getTotalTWithNextStep(),
-                data.nextStepWillAdvanceX() ? steps.x() / direction.x() : data.gettToX() - nextStep,
-                data.nextStepWillAdvanceY() ? steps.y() / direction.y() : data.gettToY() - nextStep,
-                data.nextStepWillAdvanceZ() ? steps.z() / direction.z() : data.gettToZ() - nextStep
-        );
-    }
-
-    private double getT(final double start, final double direction, final double end) {
+    private static double getT(final double start, final double direction, final double end) {
         if (direction > 0) {
             return (Math.min(end, Math.ceil(start)) - start) / direction;
         } else if (direction < 0) {
@@ -376,57 +387,4 @@ private double getT(final double start, final double direction, final double end
         }
     }
 
-    static final class TData {
-
-        private final double totalT;
-        private final double tToX;
-        private final double tToY;
-        private final double tToZ;
-        private final double nextStep;
-
-        TData(final double totalT, final double tToX, final double tToY, final double tToZ) {
-            this.totalT = totalT;
-            this.tToX = tToX;
-            this.tToY = tToY;
-            this.tToZ = tToZ;
-            this.nextStep = Math.min(tToX, Math.min(tToY, tToZ));
-        }
-
-        public double getTotalT() {
-            return this.totalT;
-        }
-
-        public double gettToX() {
-            return this.tToX;
-        }
-
-        public double gettToY() {
-            return this.tToY;
-        }
-
-        public double gettToZ() {
-            return this.tToZ;
-        }
-
-        public boolean nextStepWillAdvanceX() {
-            return this.tToX <= this.nextStep;
-        }
-
-        public boolean nextStepWillAdvanceY() {
-            return this.tToY <= this.nextStep;
-        }
-
-        public boolean nextStepWillAdvanceZ() {
-            return this.tToZ <= this.nextStep;
-        }
-
-        public double getNextStep() {
-            return this.nextStep;
-        }
-
-        public double getTotalTWithNextStep() {
-            return this.nextStep + this.totalT;
-        }
-    }
-
 }
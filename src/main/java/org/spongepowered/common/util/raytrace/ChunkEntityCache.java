@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.raytrace;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Collects the entities of each chunk column once, so that the per block
+ * entity lookups of a batch of ray traces against the same world, within
+ * the same tick, become filters over a shared list.
+ */
+final class ChunkEntityCache {
+
+    // Columns are queried slightly beyond the build limits to include entities outside of them
+    private static final int VERTICAL_MARGIN = 64;
+
+    private final Level level;
+    private final Long2ObjectMap<List<Entity>> columns = new Long2ObjectOpenHashMap<>();
+
+    ChunkEntityCache(final Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Gets the entities intersecting a single block sized box.
+     *
+     * @param box The box, contained within one chunk column
+     * @param filter The entity filter
+     * @return The entities
+     */
+    List<Entity> getEntities(final AABB box, final Predicate<? super Entity> filter) {
+        if (box.minY < -ChunkEntityCache.VERTICAL_MARGIN || box.maxY > this.level.getMaxBuildHeight() + ChunkEntityCache.VERTICAL_MARGIN) {
+            return this.level.getEntities((Entity) null, box, filter);
+        }
+        final int chunkX = Mth.floor(box.minX) >> 4;
+        final int chunkZ = Mth.floor(box.minZ) >> 4;
+        List<Entity> column = this.columns.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (column == null) {
+            column = this.level.getEntities((Entity) null, new AABB(chunkX << 4, -ChunkEntityCache.VERTICAL_MARGIN, chunkZ << 4,
+                    (chunkX << 4) + 16, this.level.getMaxBuildHeight() + ChunkEntityCache.VERTICAL_MARGIN, (chunkZ << 4) + 16), entity -> true);
+            this.columns.put(ChunkPos.asLong(chunkX, chunkZ), column);
+        }
+        if (column.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Entity> found = null;
+        for (final Entity entity : column) {
+            if (entity.getBoundingBox().intersects(box) && filter.test(entity)) {
+                if (found == null) {
+                    found = new ArrayList<>(2);
+                }
+                found.add(entity);
+            }
+        }
+        return found == null ? Collections.emptyList() : found;
+    }
+}
@@ -27,14 +27,13 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.blockray.RayTraceResult;
-import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.util.VecHelper;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
-import net.minecraft.world.level.Level;
+import net.minecraft.util.Mth;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
@@ -53,15 +52,19 @@ boolean requiresEntityTracking() {
 
     @Override
     List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.select);
+        return this.getEntities(serverWorld, targetAABB, (Predicate) this.select);
     }
 
     @Override
     final Optional<RayTraceResult<@NonNull Entity>> testSelectLocation(final ServerWorld serverWorld, final Vec3 vec3din, final Vec3 vec3dend) {
         double currentSqDist = Double.MAX_VALUE;
         RayTraceResult<@NonNull Entity> returnedEntity = null;
-        final LocatableBlock locatableBlock = this.getBlock(serverWorld, vec3din, vec3dend);
-        for (final net.minecraft.world.entity.Entity entity : this.selectEntities(serverWorld, this.getBlockAABB(locatableBlock.blockPosition()))) {
+        final AABB blockAABB = AbstractSpongeRayTrace.getBlockAABB(
+                Mth.floor(Math.min(vec3din.x, vec3dend.x)),
+                Mth.floor(Math.min(vec3din.y, vec3dend.y)),
+                Mth.floor(Math.min(vec3din.z, vec3dend.z))
+        );
+        for (final net.minecraft.world.entity.Entity entity : this.selectEntities(serverWorld, blockAABB)) {
             final Optional<Vec3> vec3d = entity.getBoundingBox().clip(vec3din, vec3dend);
             if (vec3d.isPresent()) {
                 final Vec3 hitPosition = vec3d.get();
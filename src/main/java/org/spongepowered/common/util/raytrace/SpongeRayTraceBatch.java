@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.raytrace;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.util.blockray.RayTrace;
+import org.spongepowered.api.util.blockray.RayTraceResult;
+import org.spongepowered.api.world.Locatable;
+import org.spongepowered.api.world.server.ServerWorld;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Executes many ray traces against the worlds as they are at the time of
+ * the call, sharing entity lookups between the rays of the same world.
+ */
+public final class SpongeRayTraceBatch {
+
+    private SpongeRayTraceBatch() {
+    }
+
+    /**
+     * Executes each ray trace, which must have been created by the
+     * {@link RayTrace.Factory}.
+     *
+     * @param rayTraces The ray traces
+     * @param <T> The type of target
+     * @return The results, in the same order as the ray traces
+     */
+    public static <T extends Locatable> List<Optional<RayTraceResult<@NonNull T>>> execute(final List<? extends RayTrace<@NonNull T>> rayTraces) {
+        final List<Optional<RayTraceResult<@NonNull T>>> results = new ArrayList<>(rayTraces.size());
+        final Map<ResourceKey, ServerWorld> worlds = new HashMap<>();
+        final Map<ResourceKey, ChunkEntityCache> caches = new HashMap<>();
+        for (final RayTrace<@NonNull T> rayTrace : rayTraces) {
+            if (!(rayTrace instanceof AbstractSpongeRayTrace)) {
+                results.add(rayTrace.execute());
+                continue;
+            }
+            final AbstractSpongeRayTrace<@NonNull T> spongeRayTrace = (AbstractSpongeRayTrace<@NonNull T>) rayTrace;
+            spongeRayTrace.setupEnd();
+            final ServerWorld world = worlds.computeIfAbsent(spongeRayTrace.world, key -> Sponge.server().worldManager().world(key)
+                    .orElseThrow(() -> new IllegalStateException("World with key " + key.formatted() + " is not loaded!")));
+            final ChunkEntityCache cache = spongeRayTrace.requiresEntityTracking()
+                    ? caches.computeIfAbsent(spongeRayTrace.world, key -> new ChunkEntityCache((Level) world))
+                    : null;
+            results.add(spongeRayTrace.execute(world, cache));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.region;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.world.server.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A per world index of axis aligned regions, bucketed by the chunks they
+ * cover, which tracks the regions each player is within and notifies
+ * {@link Listener}s as players enter and leave them.
+ *
+ * <p>A point query only visits the regions overlapping the chunk the point
+ * is in, plus any region too large to bucket, so the cost of a movement
+ * does not grow with the total number of regions. Players are only
+ * re-evaluated when they enter a different block.</p>
+ *
+ * <p>Everything but listener registration must happen on the server
+ * thread. Everything registered, listeners included, is dropped when the
+ * server stops.</p>
+ */
+public final class SpongeRegionIndex {
+
+    public static final SpongeRegionIndex INSTANCE = new SpongeRegionIndex();
+
+    /**
+     * Regions covering more chunks than this are kept in a list scanned on
+     * every query instead of being copied into every bucket.
+     */
+    private static final int MAX_BUCKETED_CHUNKS = 1024;
+
+    private final Map<ResourceKey, Region> regions = new HashMap<>();
+    private final Map<ResourceKey, WorldIndex> worlds = new HashMap<>();
+    private final Map<UUID, Occupant> occupants = new HashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(final Listener listener) {
+        this.listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    public void removeListener(final Listener listener) {
+        this.listeners.remove(listener);
+    }
+
+    public Region register(final ResourceKey key, final ResourceKey world, final AABB bounds) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(world, "world");
+        Objects.requireNonNull(bounds, "bounds");
+        if (this.regions.containsKey(key)) {
+            throw new IllegalArgumentException(String.format("Region '%s' has already been registered", key));
+        }
+        final Region region = new Region(key, world, bounds);
+        this.regions.put(key, region);
+        this.worlds.computeIfAbsent(world, k -> new WorldIndex()).add(region);
+        // Players standing still inside the new region are picked up on their next block change
+        for (final Occupant occupant : this.occupants.values()) {
+            occupant.blockX = Integer.MIN_VALUE;
+        }
+        return region;
+    }
+
+    public boolean unregister(final ResourceKey key) {
+        final Region region = this.regions.remove(Objects.requireNonNull(key, "key"));
+        if (region == null) {
+            return false;
+        }
+        final WorldIndex index = this.worlds.get(region.world);
+        if (index != null) {
+            index.remove(region);
+            if (index.isEmpty()) {
+                this.worlds.remove(region.world);
+            }
+        }
+        for (final Occupant occupant : this.occupants.values()) {
+            if (occupant.regions.remove(region)) {
+                this.fireLeave(occupant.player, region);
+            }
+        }
+        return true;
+    }
+
+    public @Nullable Region region(final ResourceKey key) {
+        return this.regions.get(key);
+    }
+
+    public Collection<Region> regions() {
+        return Collections.unmodifiableCollection(this.regions.values());
+    }
+
+    /**
+     * Gets the regions of the world containing the given point.
+     *
+     * @param world The world
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The regions containing the point
+     */
+    public List<Region> regionsAt(final ResourceKey world, final double x, final double y, final double z) {
+        final WorldIndex index = this.worlds.get(world);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        final List<Region> found = new ArrayList<>(2);
+        index.collect(x, y, z, found);
+        return found;
+    }
+
+    public Collection<Region> regionsOf(final UUID player) {
+        final Occupant occupant = this.occupants.get(player);
+        return occupant == null ? Collections.emptyList() : Collections.unmodifiableList(occupant.regions);
+    }
+
+    /**
+     * Re-evaluates the regions the player is within, firing enter and leave
+     * notifications for the difference.
+     *
+     * @param player The player
+     */
+    public void update(final ServerPlayer player) {
+        if (this.regions.isEmpty() && this.occupants.isEmpty()) {
+            return;
+        }
+        final net.minecraft.server.level.ServerPlayer mcPlayer = (net.minecraft.server.level.ServerPlayer) player;
+        this.update(player, mcPlayer.getUUID(), ((ServerWorld) mcPlayer.getLevel()).key(), mcPlayer.getX(), mcPlayer.getY(), mcPlayer.getZ());
+    }
+
+    void update(final ServerPlayer player, final UUID uniqueId, final ResourceKey world, final double x, final double y, final double z) {
+        if (this.regions.isEmpty() && this.occupants.isEmpty()) {
+            return;
+        }
+        final int blockX = Mth.floor(x);
+        final int blockY = Mth.floor(y);
+        final int blockZ = Mth.floor(z);
+
+        Occupant occupant = this.occupants.get(uniqueId);
+        if (occupant == null) {
+            occupant = new Occupant(player, world);
+            this.occupants.put(uniqueId, occupant);
+        }
+        // Respawning replaces the player entity
+        occupant.player = player;
+        if (occupant.blockX == blockX && occupant.blockY == blockY && occupant.blockZ == blockZ && occupant.world.equals(world)) {
+            return;
+        }
+        occupant.world = world;
+        occupant.blockX = blockX;
+        occupant.blockY = blockY;
+        occupant.blockZ = blockZ;
+
+        final List<Region> current = this.regionsAt(world, x, y, z);
+        if (current.isEmpty() && occupant.regions.isEmpty()) {
+            return;
+        }
+        final List<Region> previous = new ArrayList<>(occupant.regions);
+        occupant.regions.clear();
+        occupant.regions.addAll(current);
+        for (final Region region : previous) {
+            if (!current.contains(region)) {
+                this.fireLeave(player, region);
+            }
+        }
+        for (final Region region : current) {
+            if (!previous.contains(region)) {
+                this.fireEnter(player, region);
+            }
+        }
+    }
+
+    /**
+     * Forgets the player, without firing leave notifications.
+     *
+     * @param player The player's unique id
+     */
+    public void remove(final UUID player) {
+        this.occupants.remove(player);
+    }
+
+    /**
+     * Drops all regions, tracked players and listeners.
+     */
+    public void clear() {
+        this.regions.clear();
+        this.worlds.clear();
+        this.occupants.clear();
+        this.listeners.clear();
+    }
+
+    private void fireEnter(final ServerPlayer player, final Region region) {
+        for (final Listener listener : this.listeners) {
+            listener.onEnter(player, region);
+        }
+    }
+
+    private void fireLeave(final ServerPlayer player, final Region region) {
+        for (final Listener listener : this.listeners) {
+            listener.onLeave(player, region);
+        }
+    }
+
+    public interface Listener {
+
+        void onEnter(ServerPlayer player, Region region);
+
+        void onLeave(ServerPlayer player, Region region);
+    }
+
+    public static final class Region {
+
+        private final ResourceKey key;
+        private final ResourceKey world;
+        private final AABB bounds;
+        final double minX;
+        final double minY;
+        final double minZ;
+        final double maxX;
+        final double maxY;
+        final double maxZ;
+
+        Region(final ResourceKey key, final ResourceKey world, final AABB bounds) {
+            this.key = key;
+            this.world = world;
+            this.bounds = bounds;
+            this.minX = bounds.min().x();
+            this.minY = bounds.min().y();
+            this.minZ = bounds.min().z();
+            this.maxX = bounds.max().x();
+            this.maxY = bounds.max().y();
+            this.maxZ = bounds.max().z();
+        }
+
+        public ResourceKey key() {
+            return this.key;
+        }
+
+        public ResourceKey world() {
+            return this.world;
+        }
+
+        public AABB bounds() {
+            return this.bounds;
+        }
+
+        boolean contains(final double x, final double y, final double z) {
+            return x >= this.minX && x <= this.maxX && y >= this.minY && y <= this.maxY && z >= this.minZ && z <= this.maxZ;
+        }
+
+        @Override
+        public String toString() {
+            return "Region{key=" + this.key + ", world=" + this.world + ", bounds=" + this.bounds + "}";
+        }
+    }
+
+    private static final class WorldIndex {
+
+        private final Long2ObjectMap<List<Region>> buckets = new Long2ObjectOpenHashMap<>();
+        private final List<Region> large = new ArrayList<>();
+
+        void add(final Region region) {
+            final int minChunkX = Mth.floor(region.minX) >> 4;
+            final int minChunkZ = Mth.floor(region.minZ) >> 4;
+            final int maxChunkX = Mth.floor(region.maxX) >> 4;
+            final int maxChunkZ = Mth.floor(region.maxZ) >> 4;
+            if ((long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > SpongeRegionIndex.MAX_BUCKETED_CHUNKS) {
+                this.large.add(region);
+                return;
+            }
+            for (int x = minChunkX; x <= maxChunkX; x++) {
+                for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                    this.buckets.computeIfAbsent(ChunkPos.asLong(x, z), k -> new ArrayList<>(2)).add(region);
+                }
+            }
+        }
+
+        void remove(final Region region) {
+            if (this.large.remove(region)) {
+                return;
+            }
+            final int minChunkX = Mth.floor(region.minX) >> 4;
+            final int minChunkZ = Mth.floor(region.minZ) >> 4;
+            final int maxChunkX = Mth.floor(region.maxX) >> 4;
+            final int maxChunkZ = Mth.floor(region.maxZ) >> 4;
+            for (int x = minChunkX; x <= maxChunkX; x++) {
+                for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                    final long chunk = ChunkPos.asLong(x, z);
+                    final List<Region> bucket = this.buckets.get(chunk);
+                    if (bucket != null && bucket.remove(region) && bucket.isEmpty()) {
+                        this.buckets.remove(chunk);
+                    }
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return this.buckets.isEmpty() && this.large.isEmpty();
+        }
+
+        void collect(final double x, final double y, final double z, final List<Region> found) {
+            final List<Region> bucket = this.buckets.get(ChunkPos.asLong(Mth.floor(x) >> 4, Mth.floor(z) >> 4));
+            if (bucket != null) {
+                for (final Region region : bucket) {
+                    if (region.contains(x, y, z)) {
+                        found.add(region);
+                    }
+                }
+            }
+            for (final Region region : this.large) {
+                if (region.contains(x, y, z)) {
+                    found.add(region);
+                }
+            }
+        }
+    }
+
+    private static final class Occupant {
+
+        final List<Region> regions = new ArrayList<>(2);
+        ServerPlayer player;
+        ResourceKey world;
+        int blockX = Integer.MIN_VALUE;
+        int blockY;
+        int blockZ;
+
+        Occupant(final ServerPlayer player, final ResourceKey world) {
+            this.player = player;
+            this.world = world;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Copies, moves and deletes world directories off the main thread.
+ *
+ * <p>The directory tree is walked once to create the target directories
+ * and collect the files, after which every file (region files being the
+ * bulk of a world) is copied or deleted as its own task on a bounded I/O
+ * pool. Progress is logged periodically for long running operations.</p>
+ */
+public final class WorldDirectoryOperations {
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final ExecutorService executor;
+
+    public WorldDirectoryOperations() {
+        final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("Sponge - World I/O Thread #%d")
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
+    }
+
+    public ExecutorService executor() {
+        return this.executor;
+    }
+
+    /**
+     * Copies the given directory tree.
+     *
+     * @param source The directory to copy
+     * @param target The directory to copy into
+     * @param directoryFilter Directories (and their contents) to skip
+     * @param fileFilter Files to skip
+     * @param description A description of the operation, used for logging
+     * @return A future completing once all files are copied
+     */
+    public CompletableFuture<Void> copyDirectory(final Path source, final Path target, final Predicate<Path> directoryFilter,
+            final Predicate<Path> fileFilter, final String description) {
+        return CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            try {
+                Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                        if (!dir.equals(source) && directoryFilter.test(dir)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        Files.createDirectories(target.resolve(source.relativize(dir)));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        if (!fileFilter.test(file)) {
+                            files.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+            return files;
+        }, this.executor).thenCompose(files -> {
+            final Progress progress = new Progress(description, files.size());
+            final CompletableFuture<?>[] copies = new CompletableFuture<?>[files.size()];
+            for (int i = 0; i < copies.length; i++) {
+                final Path file = files.get(i);
+                copies[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        WorldDirectoryOperations.copyFile(file, target.resolve(source.relativize(file)), progress);
+                    } catch (final IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, this.executor);
+            }
+            return CompletableFuture.allOf(copies);
+        });
+    }
+
+    /**
+     * Moves the given directory, falling back to a copy and delete if the
+     * directory cannot be renamed in place (for example when it is moved
+     * across file systems).
+     *
+     * <p>The future fails with a {@link FileAlreadyExistsException} or
+     * {@link DirectoryNotEmptyException} if the target is a file or a
+     * non-empty directory, nothing is moved in that case.</p>
+     *
+     * @param source The directory to move
+     * @param target The new location of the directory
+     * @param description A description of the operation, used for logging
+     * @return A future completing once the directory is moved
+     */
+    public CompletableFuture<Void> moveDirectory(final Path source, final Path target, final String description) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                // Checked up front, what a rename onto an existing directory throws differs per platform
+                WorldDirectoryOperations.checkMoveTarget(target);
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (final AtomicMoveNotSupportedException e) {
+                return false;
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        }, this.executor).thenCompose(moved -> {
+            if (moved) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return this.copyDirectory(source, target, dir -> false, file -> false, description)
+                    .thenCompose(v -> this.deleteDirectory(source, description));
+        });
+    }
+
+    /**
+     * Deletes the given directory tree.
+     *
+     * @param directory The directory to delete
+     * @param description A description of the operation, used for logging
+     * @return A future completing once the directory is deleted
+     */
+    public CompletableFuture<Void> deleteDirectory(final Path directory, final String description) {
+        final List<Path> directories = new ArrayList<>();
+        return CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            if (Files.notExists(directory)) {
+                return files;
+            }
+            try {
+                Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        files.add(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+                        if (exc != null) {
+                            throw exc;
+                        }
+                        directories.add(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+            return files;
+        }, this.executor).thenCompose(files -> {
+            final Progress progress = new Progress(description, files.size());
+            final CompletableFuture<?>[] deletes = new CompletableFuture<?>[files.size()];
+            for (int i = 0; i < deletes.length; i++) {
+                final Path file = files.get(i);
+                deletes[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (final IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    progress.completed(0);
+                }, this.executor);
+            }
+            return CompletableFuture.allOf(deletes);
+        }).thenRunAsync(() -> {
+            // Post-order, children are always deleted before their parents
+            for (final Path dir : directories) {
+                try {
+                    Files.deleteIfExists(dir);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                }
+            }
+        }, this.executor);
+    }
+
+    private static void checkMoveTarget(final Path target) throws IOException {
+        if (!Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        if (!Files.isDirectory(target, LinkOption.NOFOLLOW_LINKS)) {
+            throw new FileAlreadyExistsException(target.toString());
+        }
+        try (final DirectoryStream<Path> entries = Files.newDirectoryStream(target)) {
+            if (entries.iterator().hasNext()) {
+                throw new DirectoryNotEmptyException(target.toString());
+            }
+        }
+    }
+
+    private static void copyFile(final Path source, final Path target, final Progress progress) throws IOException {
+        long copied = 0;
+        try (final FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            while (copied < size) {
+                final long transferred = in.transferTo(copied, size - copied, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                copied += transferred;
+            }
+        }
+        Files.setLastModifiedTime(target, Files.getLastModifiedTime(source));
+        progress.completed(copied);
+    }
+
+    private static final class Progress {
+
+        private final String description;
+        private final int total;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong lastReport = new AtomicLong(System.nanoTime());
+
+        Progress(final String description, final int total) {
+            this.description = description;
+            this.total = total;
+        }
+
+        void completed(final long bytes) {
+            final int completed = this.completed.incrementAndGet();
+            final long totalBytes = this.bytes.addAndGet(bytes);
+            final long now = System.nanoTime();
+            final long last = this.lastReport.get();
+            if (completed < this.total && now - last >= WorldDirectoryOperations.PROGRESS_INTERVAL_NANOS && this.lastReport.compareAndSet(last, now)) {
+                SpongeCommon.logger().info("{}: {}/{} files ({}%, {} MiB)", this.description, completed, this.total,
+                        completed * 100 / this.total, totalBytes >> 20);
+            }
+        }
+    }
+}
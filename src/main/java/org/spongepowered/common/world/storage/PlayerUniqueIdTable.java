@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The table of player unique ids a world refers to by index, such as the
+ * creators and notifiers tracked for blocks. Indices are assigned in
+ * insertion order and never change, so the table is persisted as a plain
+ * list of unique ids.
+ */
+public final class PlayerUniqueIdTable {
+
+    private UUID[] uniqueIds = new UUID[16];
+    private int size;
+    private final Object2IntMap<UUID> indices = new Object2IntOpenHashMap<>();
+
+    public PlayerUniqueIdTable() {
+        this.indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Gets the index of the unique id, adding it to the table if it is not
+     * present yet.
+     *
+     * @param uniqueId The unique id
+     * @return The index
+     */
+    public int indexOf(final UUID uniqueId) {
+        final int index = this.indices.getInt(uniqueId);
+        if (index != -1) {
+            return index;
+        }
+        if (this.size == this.uniqueIds.length) {
+            this.uniqueIds = Arrays.copyOf(this.uniqueIds, this.size * 2);
+        }
+        this.uniqueIds[this.size] = uniqueId;
+        this.indices.put(uniqueId, this.size);
+        return this.size++;
+    }
+
+    public @Nullable UUID get(final int index) {
+        if (index < 0 || index >= this.size) {
+            return null;
+        }
+        return this.uniqueIds[index];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void forEach(final Consumer<UUID> consumer) {
+        for (int i = 0; i < this.size; i++) {
+            consumer.accept(this.uniqueIds[i]);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A compact, sorted index of the join times of every player that has ever
+ * been seen by the server.
+ *
+ * <p>Each entry is stored as four longs (most significant bits, least
+ * significant bits, first joined, last joined) in a single flat array ordered
+ * by {@link UUID#compareTo(UUID)}, so lookups are a binary search and the
+ * whole index costs 32 bytes per player. The on-disk representation is the
+ * same array preceded by a small header, which is read in one go on load.</p>
+ *
+ * <p>Instances are immutable, updates produce a new index through
+ * {@link #merge(Collection)}.</p>
+ */
+final class SpongePlayerDataIndex {
+
+    static final String FILE_NAME = "players.index";
+    static final SpongePlayerDataIndex EMPTY = new SpongePlayerDataIndex(new long[0]);
+
+    private static final int MAGIC = 0x53504458; // SPDX
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 3;
+    private static final int RECORD_LONGS = 4;
+    private static final int RECORD_SIZE = SpongePlayerDataIndex.RECORD_LONGS * Long.BYTES;
+
+    private static final int MOST_SIG = 0;
+    private static final int LEAST_SIG = 1;
+    private static final int FIRST_JOINED = 2;
+    private static final int LAST_JOINED = 3;
+
+    private final long[] records;
+
+    private SpongePlayerDataIndex(final long[] records) {
+        this.records = records;
+    }
+
+    static SpongePlayerDataIndex read(final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < SpongePlayerDataIndex.HEADER_SIZE) {
+                throw new IOException("Player data index [" + file + "] is truncated!");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Player data index [" + file + "] is too large!");
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Player data index [" + file + "] is truncated!");
+                }
+            }
+            buffer.flip();
+            if (buffer.getInt() != SpongePlayerDataIndex.MAGIC) {
+                throw new IOException("Player data index [" + file + "] is not a valid index file!");
+            }
+            final int version = buffer.getInt();
+            if (version != SpongePlayerDataIndex.VERSION) {
+                throw new IOException("Player data index [" + file + "] has unsupported version " + version + "!");
+            }
+            final int count = buffer.getInt();
+            if (count < 0 || (long) count * SpongePlayerDataIndex.RECORD_SIZE != size - SpongePlayerDataIndex.HEADER_SIZE) {
+                throw new IOException("Player data index [" + file + "] is truncated!");
+            }
+            final long[] records = new long[count * SpongePlayerDataIndex.RECORD_LONGS];
+            buffer.asLongBuffer().get(records);
+            return new SpongePlayerDataIndex(records);
+        }
+    }
+
+    void write(final Path file) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(SpongePlayerDataIndex.HEADER_SIZE + this.records.length * Long.BYTES);
+        buffer.putInt(SpongePlayerDataIndex.MAGIC);
+        buffer.putInt(SpongePlayerDataIndex.VERSION);
+        buffer.putInt(this.size());
+        buffer.asLongBuffer().put(this.records);
+        buffer.rewind();
+
+        final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    int size() {
+        return this.records.length / SpongePlayerDataIndex.RECORD_LONGS;
+    }
+
+    /**
+     * Gets the slot of the given unique id, or a negative value if the
+     * player is not present within this index.
+     *
+     * @param uniqueId The unique id
+     * @return The slot, or a negative value
+     */
+    int find(final UUID uniqueId) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+        int low = 0;
+        int high = this.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int offset = mid * SpongePlayerDataIndex.RECORD_LONGS;
+            int cmp = Long.compare(this.records[offset + SpongePlayerDataIndex.MOST_SIG], most);
+            if (cmp == 0) {
+                cmp = Long.compare(this.records[offset + SpongePlayerDataIndex.LEAST_SIG], least);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    long firstJoined(final int slot) {
+        return this.records[slot * SpongePlayerDataIndex.RECORD_LONGS + SpongePlayerDataIndex.FIRST_JOINED];
+    }
+
+    long lastJoined(final int slot) {
+        return this.records[slot * SpongePlayerDataIndex.RECORD_LONGS + SpongePlayerDataIndex.LAST_JOINED];
+    }
+
+    /**
+     * Creates a new index containing all entries of this index, replaced or
+     * extended by the given player data.
+     *
+     * @param updates The updated player data
+     * @return The merged index
+     */
+    SpongePlayerDataIndex merge(final Collection<SpongePlayerData> updates) {
+        if (updates.isEmpty()) {
+            return this;
+        }
+        final List<SpongePlayerData> sorted = new ArrayList<>(updates);
+        sorted.sort(Comparator.comparing(SpongePlayerData::getUniqueId));
+
+        final long[] merged = new long[this.records.length + sorted.size() * SpongePlayerDataIndex.RECORD_LONGS];
+        final int size = this.size();
+        int slot = 0;
+        int out = 0;
+        for (final SpongePlayerData data : sorted) {
+            final long most = data.getUniqueId().getMostSignificantBits();
+            final long least = data.getUniqueId().getLeastSignificantBits();
+            int cmp = -1;
+            while (slot < size) {
+                final int offset = slot * SpongePlayerDataIndex.RECORD_LONGS;
+                cmp = Long.compare(this.records[offset + SpongePlayerDataIndex.MOST_SIG], most);
+                if (cmp == 0) {
+                    cmp = Long.compare(this.records[offset + SpongePlayerDataIndex.LEAST_SIG], least);
+                }
+                if (cmp >= 0) {
+                    break;
+                }
+                System.arraycopy(this.records, offset, merged, out, SpongePlayerDataIndex.RECORD_LONGS);
+                out += SpongePlayerDataIndex.RECORD_LONGS;
+                slot++;
+            }
+            if (slot < size && cmp == 0) {
+                // Replaced entry, skip the old one
+                slot++;
+            }
+            merged[out + SpongePlayerDataIndex.MOST_SIG] = most;
+            merged[out + SpongePlayerDataIndex.LEAST_SIG] = least;
+            merged[out + SpongePlayerDataIndex.FIRST_JOINED] = data.getFirstJoined();
+            merged[out + SpongePlayerDataIndex.LAST_JOINED] = data.getLastJoined();
+            out += SpongePlayerDataIndex.RECORD_LONGS;
+        }
+        final int remaining = (size - slot) * SpongePlayerDataIndex.RECORD_LONGS;
+        System.arraycopy(this.records, slot * SpongePlayerDataIndex.RECORD_LONGS, merged, out, remaining);
+        out += remaining;
+
+        if (out == merged.length) {
+            return new SpongePlayerDataIndex(merged);
+        }
+        final long[] trimmed = new long[out];
+        System.arraycopy(merged, 0, trimmed, 0, out);
+        return new SpongePlayerDataIndex(trimmed);
+    }
+}
@@ -25,6 +25,9 @@
 package org.spongepowered.common.world.storage;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.data.persistence.DataContainer;
@@ -36,33 +39,69 @@
 
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.file.DirectoryIteratorException;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtIo;
 
+/**
+ * Tracks the first and last join times of every player known to the server.
+ *
+ * <p>Join times of all players are kept within a compact
+ * {@link SpongePlayerDataIndex} which is read on {@link #load()}. Players
+ * missing from the index (such as those written by older versions) are
+ * lazily loaded from their individual {@code <uuid>.dat} file on first
+ * access. Players without such a file are remembered, so repeated lookups
+ * don't touch the disk again.</p>
+ *
+ * <p>Changes are held in memory until they are written out by the save
+ * thread, which batches individual player files per save request and
+ * rewrites the index on {@link #save()}.</p>
+ */
 public final class SpongePlayerDataManager {
 
     private static final String SPONGE_DATA = "sponge";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final int MAX_MISSING_ENTRIES = 10_000;
+
     private final Server server;
+    // Entries loaded from individual files or changed since the index was last written
     private final Map<UUID, SpongePlayerData> playerDataByUniqueId;
+    // Players known to have neither an index entry nor a readable file
+    private final Cache<UUID, Boolean> missingUniqueIds = Caffeine.newBuilder()
+            .maximumSize(SpongePlayerDataManager.MAX_MISSING_ENTRIES)
+            .build();
+    private final Set<UUID> pendingFileSaves;
+    private final AtomicBoolean fileSaveScheduled;
+    private final ExecutorService saveExecutor;
+    private volatile SpongePlayerDataIndex index = SpongePlayerDataIndex.EMPTY;
     @org.checkerframework.checker.nullness.qual.Nullable private Path playersDirectory = null;
 
     public SpongePlayerDataManager(final Server server) {
         this.server = server;
         this.playerDataByUniqueId = new ConcurrentHashMap<>();
+        this.pendingFileSaves = ConcurrentHashMap.newKeySet();
+        this.fileSaveScheduled = new AtomicBoolean();
+        this.saveExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Sponge - Player Data Save Thread")
+                .build());
     }
 
     public void load() {
@@ -71,40 +110,54 @@ public void load() {
                 SpongePlayerDataManager.SPONGE_DATA);
             Files.createDirectories(this.playersDirectory);
 
-            final List<Path> playerFiles = new ArrayList<>();
-            try (final DirectoryStream<Path> stream = Files.newDirectoryStream(this.playersDirectory, "*.{dat}")) {
-                for (final Path entry : stream) {
-                    playerFiles.add(entry);
-                }
-            } catch (final DirectoryIteratorException e) {
-                SpongeCommon.logger().error("Something happened when trying to gather all player files", e);
-            }
-            for (final Path playerFile : playerFiles) {
-                if (Files.isReadable(playerFile)) {
-                    final CompoundTag compound;
-
-                    try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = NbtIo.readCompressed(stream);
-                    } catch (final Exception e) {
-                        throw new RuntimeException("Failed to decompress playerdata for playerfile " + playerFile, e);
-                    }
-
-                    if (compound.isEmpty()) {
-                        throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
-                    }
-
-                    final DataContainer container = NBTTranslator.INSTANCE.translateFrom(compound);
-                    final SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
-                    this.playerDataByUniqueId.put(data.getUniqueId(), data);
+            this.playerDataByUniqueId.clear();
+            this.missingUniqueIds.invalidateAll();
+            final Path indexFile = this.playersDirectory.resolve(SpongePlayerDataIndex.FILE_NAME);
+            if (Files.isReadable(indexFile)) {
+                try {
+                    this.index = SpongePlayerDataIndex.read(indexFile);
+                } catch (final Exception e) {
+                    // Player files are still present, so they will be lazily re-indexed
+                    SpongeCommon.logger().error("Failed to read the player data index [{}], it will be rebuilt!", indexFile, e);
+                    this.index = SpongePlayerDataIndex.EMPTY;
                 }
+            } else {
+                this.index = SpongePlayerDataIndex.EMPTY;
             }
-            playerFiles.clear();
-
         } catch (final Exception ex) {
             throw new RuntimeException("Encountered an exception while creating the player data handler!", ex);
         }
     }
 
+    /**
+     * Writes any changed join times into the index, asynchronously.
+     */
+    public void save() {
+        if (this.playersDirectory == null || this.playerDataByUniqueId.isEmpty()) {
+            return;
+        }
+        this.saveExecutor.execute(this::writeIndex);
+    }
+
+    /**
+     * Writes all pending player files and the index, waiting for the save
+     * thread to complete.
+     */
+    public void shutdown() {
+        if (this.playersDirectory != null) {
+            this.saveExecutor.execute(this::writePendingFiles);
+            this.saveExecutor.execute(this::writeIndex);
+        }
+        this.saveExecutor.shutdown();
+        try {
+            if (!this.saveExecutor.awaitTermination(SpongePlayerDataManager.SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                SpongeCommon.logger().error("Timed out waiting for player data to be saved!");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void readPlayerData(final CompoundTag compound, @Nullable UUID playerUniqueId, @Nullable Instant creation) {
         if (creation == null) {
             creation = Instant.now();
@@ -145,12 +198,100 @@ public void saveSpongePlayerData(final UUID uniqueId) {
             throw new IllegalArgumentException("Player unique id cannot be null!");
         }
 
+        if (!this.playerDataByUniqueId.containsKey(uniqueId) && this.index.find(uniqueId) < 0) {
+            SpongeCommon.logger().error("Couldn't find a player data for the uuid: " + uniqueId.toString());
+            return;
+        }
+        this.pendingFileSaves.add(uniqueId);
+        // Player saves come in bursts (save-all, auto-save), so batch them into a single task
+        if (this.fileSaveScheduled.compareAndSet(false, true)) {
+            this.saveExecutor.execute(this::writePendingFiles);
+        }
+    }
+
+    private void writePendingFiles() {
+        this.fileSaveScheduled.set(false);
+        final List<UUID> toSave = new ArrayList<>(this.pendingFileSaves);
+        this.pendingFileSaves.removeAll(toSave);
+        for (final UUID uniqueId : toSave) {
+            final @Nullable SpongePlayerData data = this.getData(uniqueId);
+            if (data != null) {
+                this.saveFile(uniqueId.toString(), this.createCompoundFor(data));
+            }
+        }
+    }
+
+    private void writeIndex() {
+        final Map<UUID, SpongePlayerData> changed = new HashMap<>(this.playerDataByUniqueId);
+        if (changed.isEmpty()) {
+            return;
+        }
+        final SpongePlayerDataIndex merged = this.index.merge(changed.values());
+        try {
+            merged.write(this.playersDirectory.resolve(SpongePlayerDataIndex.FILE_NAME));
+        } catch (final Exception e) {
+            SpongeCommon.logger().error("Failed to save the player data index!", e);
+            return;
+        }
+        this.index = merged;
+        // Entries changed while writing are kept until the next save
+        for (final Map.Entry<UUID, SpongePlayerData> entry : changed.entrySet()) {
+            this.playerDataByUniqueId.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private @Nullable SpongePlayerData getData(final UUID uniqueId) {
         final @Nullable SpongePlayerData data = this.playerDataByUniqueId.get(uniqueId);
         if (data != null) {
-            this.saveFile(uniqueId.toString(), this.createCompoundFor(data));
-        } else {
-            SpongeCommon.logger().error("Couldn't find a player data for the uuid: " + uniqueId.toString());
+            return data;
+        }
+        final SpongePlayerDataIndex index = this.index;
+        final int slot = index.find(uniqueId);
+        if (slot >= 0) {
+            return SpongePlayerDataManager.createData(uniqueId, index.firstJoined(slot), index.lastJoined(slot));
+        }
+        if (this.missingUniqueIds.getIfPresent(uniqueId) != null) {
+            return null;
         }
+        final @Nullable SpongePlayerData loaded = this.loadFile(uniqueId);
+        if (loaded == null) {
+            this.missingUniqueIds.put(uniqueId, Boolean.TRUE);
+            return null;
+        }
+        final @Nullable SpongePlayerData existing = this.playerDataByUniqueId.putIfAbsent(uniqueId, loaded);
+        return existing == null ? loaded : existing;
+    }
+
+    private @Nullable SpongePlayerData loadFile(final UUID uniqueId) {
+        if (this.playersDirectory == null) {
+            return null;
+        }
+        final Path playerFile = this.playersDirectory.resolve(uniqueId.toString() + ".dat");
+        if (!Files.isReadable(playerFile)) {
+            return null;
+        }
+        final CompoundTag compound;
+        try (final InputStream stream = Files.newInputStream(playerFile)) {
+            compound = NbtIo.readCompressed(stream);
+        } catch (final Exception e) {
+            SpongeCommon.logger().error("Failed to decompress playerdata for playerfile {}", playerFile, e);
+            return null;
+        }
+        if (compound.isEmpty()) {
+            SpongeCommon.logger().error("Failed to decompress player data within [{}]!", playerFile);
+            return null;
+        }
+
+        final DataContainer container = NBTTranslator.INSTANCE.translateFrom(compound);
+        return container.getSerializable(DataQuery.of(), SpongePlayerData.class).orElse(null);
+    }
+
+    private static SpongePlayerData createData(final UUID uniqueId, final long firstJoined, final long lastJoined) {
+        final SpongePlayerData data = new SpongePlayerData();
+        data.setUniqueId(uniqueId);
+        data.setFirstJoined(firstJoined);
+        data.setLastJoined(lastJoined);
+        return data;
     }
 
     private CompoundTag createCompoundFor(final SpongePlayerData data) {
@@ -164,7 +305,8 @@ private void saveFile(final String id, final CompoundTag compound) {
 
             final Path finalDatPath = this.playersDirectory.resolve(id + ".dat");
             final Path newDatPath = this.playersDirectory.resolve(id + ".dat.tmp");
-            try (final OutputStream stream = Files.newOutputStream(newDatPath, StandardOpenOption.CREATE)) {
+            try (final OutputStream stream = Files.newOutputStream(newDatPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
                 NbtIo.writeCompressed(compound, stream);
             }
             Files.move(newDatPath, finalDatPath, StandardCopyOption.REPLACE_EXISTING);
@@ -184,23 +326,18 @@ public void setPlayerInfo(final UUID playerUniqueId, final Instant join, final I
             throw new IllegalArgumentException("Last joined date cannot be null!");
         }
 
-        SpongePlayerData data = this.playerDataByUniqueId.get(playerUniqueId);
-        if (data == null) {
-            data = new SpongePlayerData();
-            data.setUniqueId(playerUniqueId);
-        }
-        data.setFirstJoined(join.toEpochMilli());
-        data.setLastJoined(last.toEpochMilli());
-        this.playerDataByUniqueId.put(playerUniqueId, data);
+        // Always replace the entry, an in-flight index save relies on identity to detect changes
+        this.playerDataByUniqueId.put(playerUniqueId, SpongePlayerDataManager.createData(playerUniqueId, join.toEpochMilli(), last.toEpochMilli()));
+        this.missingUniqueIds.invalidate(playerUniqueId);
     }
 
     public Optional<Instant> getFirstJoined(final UUID uniqueId) {
-        final SpongePlayerData data = this.playerDataByUniqueId.get(uniqueId);
+        final @Nullable SpongePlayerData data = this.getData(uniqueId);
         return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.getFirstJoined()));
     }
 
     public Optional<Instant> getLastPlayed(final UUID uniqueId) {
-        final SpongePlayerData data = this.playerDataByUniqueId.get(uniqueId);
+        final @Nullable SpongePlayerData data = this.getData(uniqueId);
         return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.getLastJoined()));
     }
 }
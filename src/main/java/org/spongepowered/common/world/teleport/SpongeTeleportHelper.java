@@ -26,6 +26,12 @@
 
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongComparator;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.server.ServerLocation;
@@ -40,13 +46,9 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 import net.minecraft.world.level.border.WorldBorder;
 
 @Singleton
@@ -64,153 +66,278 @@ public Optional<ServerLocation> findSafeLocation(ServerLocation location, int he
             filters.add(TeleportHelperFilters.CONFIG.get());
         }
 
-        // Get the vectors to check, and get the block types with them.
-        // The vectors should be sorted by distance from the centre of the checking region, so
+        // The positions are visited sorted by distance from the centre of the checking region, so
         // this makes it easier to try to get close, because we can just iterate and get progressively further out.
-        Optional<Vector3i> result = this.getSafeLocation(world, this.getBlockLocations(location, height, width), distanceToDrop, filters);
+        final Optional<Vector3i> result = this.getSafeLocation(world, new SearchBox(location, height, width), distanceToDrop, filters);
         return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
-        // We don't want to warp outside of the world border, so we want to check that we're within it.
-        final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
-        final double radius = worldBorder.getSize() / 2.0D;
-        int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
-        int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
-        int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
-        int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
-
-        // Get the World and get the maximum Y value.
-        int worldMaxY = worldLocation.world().blockMax().y();
-
-        Vector3i vectorLocation = worldLocation.blockPosition();
-
-        // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
-        // world border and the world height.
-        int minY = GenericMath.clamp(vectorLocation.y() - height, 0, worldMaxY);
-        int maxY = GenericMath.clamp(vectorLocation.y() + height, 0, worldMaxY);
-
-        int minX = GenericMath.clamp(vectorLocation.x() - width, worldBorderMinX, worldBorderMaxX);
-        int maxX = GenericMath.clamp(vectorLocation.x() + width, worldBorderMinX, worldBorderMaxX);
-
-        int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
-        int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
-
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
+    private Optional<Vector3i> getSafeLocation(final ServerWorld world, final SearchBox box, final int floorDistanceCheck,
+            final Collection<TeleportHelperFilter> filters) {
+        // We cache the various block lookup results per section so we don't check a block twice.
+        final Long2ObjectMap<SectionData> blockCache = new Long2ObjectOpenHashMap<>();
+        final LongHeapPriorityQueue candidates = new LongHeapPriorityQueue(box);
+        final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+
+        // Sections are loaded ring by ring around the centre section. Every block of ring r is at least
+        // minDistanceSquared(r) away, so queued candidates closer than that are final in the sort order.
+        for (int ring = 0; ; ring++) {
+            final long bound = ring > box.maxRing ? Long.MAX_VALUE : SpongeTeleportHelper.minDistanceSquared(ring);
+            while (!candidates.isEmpty() && box.distanceSquared(candidates.firstLong()) < bound) {
+                final long packed = candidates.dequeueLong();
+                if (this.isSafe(world, packed, floorDistanceCheck, filters, blockCache, undefinedResults)) {
+                    return Optional.of(new Vector3i(BlockPos.getX(packed), BlockPos.getY(packed), BlockPos.getZ(packed)));
                 }
             }
+            if (ring > box.maxRing) {
+                return Optional.empty();
+            }
+            box.enqueueRing(ring, candidates);
         }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.y() - x.y())).thenComparing(x -> -x.y());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
     }
 
-    private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
-            Collection<TeleportHelperFilter> filters) {
-        // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
-
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
-                // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
-                if (isValid == Tristate.FALSE) {
-                    // Completely fails the AND check at this point.
-                    return false;
-                }
+    private static long minDistanceSquared(final int ring) {
+        if (ring == 0) {
+            return 0;
+        }
+        final long distance = (ring - 1) * 16L + 1;
+        return distance * distance;
+    }
 
-                if (isValid == Tristate.UNDEFINED) {
-                    undefinedResults.add(filter);
-                }
+    private boolean isSafe(final ServerWorld world, final long packed, final int floorDistanceCheck, final Collection<TeleportHelperFilter> filters,
+            final Long2ObjectMap<SectionData> blockCache, final List<TeleportHelperFilter> undefinedResults) {
+        final int x = BlockPos.getX(packed);
+        final int y = BlockPos.getY(packed);
+        final int z = BlockPos.getZ(packed);
+        final Vector3i currentTarget = new Vector3i(x, y, z);
+        undefinedResults.clear();
+        for (final TeleportHelperFilter filter : filters) {
+            // If any return Tristate.FALSE, we're not safe.
+            final Tristate isValid = filter.isValidLocation(world, currentTarget);
+            if (isValid == Tristate.FALSE) {
+                // Completely fails the AND check at this point.
+                return false;
             }
 
-            // If we don't have any undefined results, then we return true here.
-            if (undefinedResults.isEmpty()) {
-                return true;
+            if (isValid == Tristate.UNDEFINED) {
+                undefinedResults.add(filter);
             }
+        }
 
-            // Get the block, add it to the cache.
-            BlockData block = this.getBlockData(currentTarget, world, blockCache, undefinedResults);
-
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
-
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (this.getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
-
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
-            }
+        // If we don't have any undefined results, then we return true here.
+        if (undefinedResults.isEmpty()) {
+            return true;
+        }
 
-            return false;
-        }).findFirst();
+        // If the block isn't safe, no point in continuing on this run.
+        // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
+        return this.getBlockData(x, y, z, world, blockCache, undefinedResults, SectionData.BODY)
+                && this.getBlockData(x, y + 1, z, world, blockCache, undefinedResults, SectionData.BODY)
+                && (floorDistanceCheck <= 0 || this.isFloorSafe(x, y, z, world, blockCache, undefinedResults, floorDistanceCheck));
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
-            int floorDistanceCheck) {
+    private boolean isFloorSafe(final int x, final int y, final int z, final World world, final Long2ObjectMap<SectionData> blockCache,
+            final Collection<TeleportHelperFilter> filters, final int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
-
             // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
+            if (this.getBlockData(x, y - i, z, world, blockCache, filters, SectionData.FLOOR)) {
                 return true;
             }
 
             // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
+            if (!this.getBlockData(x, y - i, z, world, blockCache, filters, SectionData.BODY)) {
                 return false;
             }
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return this.getBlockData(x, y - floorDistanceCheck, z, world, blockCache, filters, SectionData.FLOOR);
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.y() < 0) {
+    private boolean getBlockData(final int x, final int y, final int z, final World world, final Long2ObjectMap<SectionData> cache,
+            final Collection<TeleportHelperFilter> filters, final int kind) {
+        if (y < 0) {
             // Anything below this isn't safe, no point going further.
-            return new BlockData();
+            return false;
+        }
+
+        final long section = SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        SectionData data = cache.get(section);
+        if (data == null) {
+            data = new SectionData();
+            cache.put(section, data);
+        }
+        final int index = ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+        if (!data.isComputed(index)) {
+            final BlockState blockState = world.block(x, y, z);
+            data.set(index, SectionData.FLOOR, SpongeTeleportHelper.allMatch(filters, blockState, SectionData.FLOOR));
+            data.set(index, SectionData.BODY, SpongeTeleportHelper.allMatch(filters, blockState, SectionData.BODY));
+            data.set(index, SectionData.COMPUTED, true);
         }
+        return data.get(index, kind);
+    }
+
+    private static boolean allMatch(final Collection<TeleportHelperFilter> filters, final BlockState blockState, final int kind) {
+        for (final TeleportHelperFilter filter : filters) {
+            if (kind == SectionData.FLOOR ? !filter.isSafeFloorMaterial(blockState) : !filter.isSafeBodyMaterial(blockState)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+    /**
+     * The safety of the blocks of a 16x16x16 section, as bitmaps of the
+     * computed, safe floor and safe body blocks.
+     */
+    private static final class SectionData {
+
+        static final int COMPUTED = 0;
+        static final int FLOOR = 1;
+        static final int BODY = 2;
+
+        private final long[] bits = new long[3 * 64];
+
+        boolean isComputed(final int index) {
+            return this.get(index, SectionData.COMPUTED);
         }
 
-        BlockData data = new BlockData(world.block(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
+        boolean get(final int index, final int kind) {
+            return (this.bits[kind * 64 + (index >>> 6)] & (1L << index)) != 0;
+        }
+
+        void set(final int index, final int kind, final boolean value) {
+            if (value) {
+                this.bits[kind * 64 + (index >>> 6)] |= 1L << index;
+            }
+        }
     }
 
-    private class BlockData {
+    /**
+     * The region being searched, clamped to the world border and height,
+     * which orders packed positions by distance from the centre, preferring
+     * changes in Y over X and Z, and higher over lower locations.
+     */
+    private static final class SearchBox implements LongComparator {
+
+        final int centerX;
+        final int centerY;
+        final int centerZ;
+        final int minX;
+        final int minY;
+        final int minZ;
+        final int maxX;
+        final int maxY;
+        final int maxZ;
+        final int maxRing;
+
+        SearchBox(final ServerLocation worldLocation, final int height, final int width) {
+            // We don't want to warp outside of the world border, so we want to check that we're within it.
+            final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
+            final double radius = worldBorder.getSize() / 2.0D;
+            final int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
+            final int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
+            final int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
+            final int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
+
+            // Get the World and get the maximum Y value.
+            final int worldMaxY = worldLocation.world().blockMax().y();
+
+            final Vector3i vectorLocation = worldLocation.blockPosition();
+            this.centerX = vectorLocation.x();
+            this.centerY = vectorLocation.y();
+            this.centerZ = vectorLocation.z();
+
+            // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
+            // world border and the world height.
+            this.minY = GenericMath.clamp(this.centerY - height, 0, worldMaxY);
+            this.maxY = GenericMath.clamp(this.centerY + height, 0, worldMaxY);
+
+            this.minX = GenericMath.clamp(this.centerX - width, worldBorderMinX, worldBorderMaxX);
+            this.maxX = GenericMath.clamp(this.centerX + width, worldBorderMinX, worldBorderMaxX);
+
+            this.minZ = GenericMath.clamp(this.centerZ - width, worldBorderMinZ, worldBorderMaxZ);
+            this.maxZ = GenericMath.clamp(this.centerZ + width, worldBorderMinZ, worldBorderMaxZ);
+
+            final int sectionX = this.centerX >> 4;
+            final int sectionY = this.centerY >> 4;
+            final int sectionZ = this.centerZ >> 4;
+            this.maxRing = Math.max(Math.max(Math.abs((this.minX >> 4) - sectionX), Math.abs((this.maxX >> 4) - sectionX)),
+                Math.max(Math.max(Math.abs((this.minY >> 4) - sectionY), Math.abs((this.maxY >> 4) - sectionY)),
+                    Math.max(Math.abs((this.minZ >> 4) - sectionZ), Math.abs((this.maxZ >> 4) - sectionZ))));
+        }
 
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
+        /**
+         * Queues every in-box position of the sections whose Chebyshev
+         * distance from the centre section is exactly the ring.
+         *
+         * @param ring The ring
+         * @param queue The queue
+         */
+        void enqueueRing(final int ring, final LongHeapPriorityQueue queue) {
+            final int sectionX = this.centerX >> 4;
+            final int sectionY = this.centerY >> 4;
+            final int sectionZ = this.centerZ >> 4;
+            final int fromX = Math.max(sectionX - ring, this.minX >> 4);
+            final int toX = Math.min(sectionX + ring, this.maxX >> 4);
+            final int fromY = Math.max(sectionY - ring, this.minY >> 4);
+            final int toY = Math.min(sectionY + ring, this.maxY >> 4);
+            final int fromZ = Math.max(sectionZ - ring, this.minZ >> 4);
+            final int toZ = Math.min(sectionZ + ring, this.maxZ >> 4);
+            for (int sy = fromY; sy <= toY; sy++) {
+                for (int sx = fromX; sx <= toX; sx++) {
+                    for (int sz = fromZ; sz <= toZ; sz++) {
+                        if (Math.max(Math.abs(sx - sectionX), Math.max(Math.abs(sy - sectionY), Math.abs(sz - sectionZ))) != ring) {
+                            continue;
+                        }
+                        this.enqueueSection(sx, sy, sz, queue);
+                    }
+                }
+            }
+        }
 
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
+        private void enqueueSection(final int sectionX, final int sectionY, final int sectionZ, final LongHeapPriorityQueue queue) {
+            final int fromX = Math.max(sectionX << 4, this.minX);
+            final int toX = Math.min((sectionX << 4) + 15, this.maxX);
+            final int fromY = Math.max(sectionY << 4, this.minY);
+            final int toY = Math.min((sectionY << 4) + 15, this.maxY);
+            final int fromZ = Math.max(sectionZ << 4, this.minZ);
+            final int toZ = Math.min((sectionZ << 4) + 15, this.maxZ);
+            for (int y = fromY; y <= toY; y++) {
+                for (int x = fromX; x <= toX; x++) {
+                    for (int z = fromZ; z <= toZ; z++) {
+                        queue.enqueue(BlockPos.asLong(x, y, z));
+                    }
+                }
+            }
         }
 
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
+        long distanceSquared(final long packed) {
+            final long dx = BlockPos.getX(packed) - this.centerX;
+            final long dy = BlockPos.getY(packed) - this.centerY;
+            final long dz = BlockPos.getZ(packed) - this.centerZ;
+            return dx * dx + dy * dy + dz * dz;
         }
 
+        @Override
+        public int compare(final long a, final long b) {
+            int result = Long.compare(this.distanceSquared(a), this.distanceSquared(b));
+            if (result != 0) {
+                return result;
+            }
+            final int ay = BlockPos.getY(a);
+            final int by = BlockPos.getY(b);
+            result = Integer.compare(Math.abs(this.centerY - by), Math.abs(this.centerY - ay));
+            if (result != 0) {
+                return result;
+            }
+            result = Integer.compare(by, ay);
+            if (result != 0) {
+                return result;
+            }
+            result = Integer.compare(BlockPos.getX(a), BlockPos.getX(b));
+            return result != 0 ? result : Integer.compare(BlockPos.getZ(a), BlockPos.getZ(b));
+        }
     }
 
 }
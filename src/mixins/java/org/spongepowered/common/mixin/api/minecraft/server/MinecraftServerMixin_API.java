@@ -83,6 +83,7 @@
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
+import org.spongepowered.common.data.persistence.AsyncDataSerializer;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.map.SpongeMapStorage;
@@ -135,6 +136,7 @@ public abstract class MinecraftServerMixin_API extends ReentrantBlockableEventLo
     private SpongeTeleportHelper api$teleportHelper;
     private SpongePlayerDataManager api$playerDataHandler;
     private UsernameCache api$usernameCache;
+    private AsyncDataSerializer api$dataSerializer;
     private Audience api$broadcastAudience;
     private ServerScoreboard api$scoreboard;
     private GameProfileManager api$profileManager;
@@ -155,12 +157,20 @@ public MinecraftServerMixin_API(final String name) {
 
         this.api$scheduler = new ServerScheduler();
         this.api$playerDataHandler = new SpongePlayerDataManager(this);
+        this.api$dataSerializer = new AsyncDataSerializer();
         this.api$teleportHelper = new SpongeTeleportHelper();
         this.api$userManager = new SpongeUserManager(this);
         this.api$mapStorage = new SpongeMapStorage();
         this.api$registryHolder = new SpongeRegistryHolder(p_i232576_2_);
     }
 
+    @Inject(method = "stopServer", at = @At("TAIL"))
+    private void api$shutdownProfileManager(final CallbackInfo ci) {
+        if (this.api$profileManager != null) {
+            ((SpongeGameProfileManager) this.api$profileManager).shutdown();
+        }
+    }
+
     @Override
     public RecipeManager recipeManager() {
         return (RecipeManager) this.shadow$getRecipeManager();
@@ -422,6 +432,11 @@ public UsernameCache getUsernameCache() {
         return this.api$usernameCache;
     }
 
+    @Override
+    public AsyncDataSerializer getDataSerializer() {
+        return this.api$dataSerializer;
+    }
+
     @Override
     public void sendMessage(final Identity identity, final Component message, final MessageType type) {
         this.shadow$getPlayerList().broadcastMessage(SpongeAdventure.asVanilla(message), SpongeAdventure.asVanilla(type), identity.uuid());
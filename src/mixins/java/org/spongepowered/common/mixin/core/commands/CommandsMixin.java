@@ -56,6 +56,7 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.util.CommandUtil;
+import org.spongepowered.common.util.StartupProfiler;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -95,7 +96,10 @@ public abstract class CommandsMixin implements CommandsBridge {
             remap = false
     ))
     private CommandDispatcher<CommandSourceStack> impl$useSpongeDispatcher() {
-        final SpongeCommandManager manager = SpongeBootstrap.lifecycle().createCommandManager();
+        final SpongeCommandManager manager;
+        try (final StartupProfiler.Section ignored = StartupProfiler.section(StartupProfiler.LIFECYCLE, "createCommandManager")) {
+            manager = SpongeBootstrap.lifecycle().createCommandManager();
+        }
         this.impl$commandManager = manager;
         return new DelegatingCommandDispatcher(manager.getBrigadierRegistrar());
     }
@@ -57,6 +57,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
 
     private DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData;
+    private boolean impl$dataDirty = true;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
@@ -70,6 +71,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     @SuppressWarnings({"rawtypes", "unchecked"})
     public void bridge$mergeDeserialized(final DataManipulator.Mutable manipulator) {
+        this.impl$dataDirty = true;
         if (this.impl$manipulator == null) {
             this.impl$manipulator = DataManipulator.mutableOf();
         }
@@ -89,6 +91,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     public void bridge$clear() {
         this.impl$manipulator = null;
         this.impl$failedData = HashMultimap.create();
+        this.impl$dataDirty = true;
     }
 
     @Override
@@ -102,6 +105,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     public void bridge$invalidateFailedData() {
         this.impl$failedData = null;
+        this.impl$dataDirty = true;
     }
 
     @Override
@@ -110,5 +114,21 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
             this.impl$failedData  = HashMultimap.create();
         }
         this.impl$failedData.put(nameSpace, keyedData);
+        this.impl$dataDirty = true;
+    }
+
+    @Override
+    public boolean bridge$isDataDirty() {
+        return this.impl$dataDirty;
+    }
+
+    @Override
+    public void bridge$markDataDirty() {
+        this.impl$dataDirty = true;
+    }
+
+    @Override
+    public void bridge$clearDataDirty() {
+        this.impl$dataDirty = false;
     }
 }
@@ -47,6 +47,7 @@
 import org.spongepowered.common.SpongeLifecycle;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.server.BootstrapProperties;
+import org.spongepowered.common.util.StartupProfiler;
 
 import java.nio.file.Path;
 
@@ -75,10 +76,10 @@ public abstract class MainMixin {
     private static Path impl$configurePackRepository(final LevelStorageSource.LevelStorageAccess levelSave, final LevelResource folderName) {
         final Path datapackDir = levelSave.getLevelPath(folderName);
         final SpongeLifecycle lifecycle = SpongeBootstrap.lifecycle();
-        lifecycle.establishGlobalRegistries();
-        lifecycle.establishDataProviders();
-        lifecycle.callRegisterDataEvent();
-        lifecycle.callRegisterDataPackValueEvent(datapackDir);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishGlobalRegistries", lifecycle::establishGlobalRegistries);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishDataProviders", lifecycle::establishDataProviders);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callRegisterDataEvent", lifecycle::callRegisterDataEvent);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callRegisterDataPackValueEvent", () -> lifecycle.callRegisterDataPackValueEvent(datapackDir));
         return datapackDir;
     }
 
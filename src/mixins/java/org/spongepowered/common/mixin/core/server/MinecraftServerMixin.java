@@ -75,8 +75,11 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import co.aikar.timings.sponge.SpongeTimings;
 import co.aikar.timings.sponge.TimingsManager;
+import org.spongepowered.common.registry.SpongeRegistryReference;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
+import org.spongepowered.common.scoreboard.ScoreboardSync;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
+import org.spongepowered.common.world.region.SpongeRegionIndex;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -155,6 +158,11 @@ public Subject subject() {
         this.scheduler().tick();
     }
 
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void impl$flushScoreboards(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        ScoreboardSync.flush();
+    }
+
     @Override
     public CommandSourceStack bridge$getCommandSource(final Cause cause) {
         return this.shadow$createCommandSourceStack();
@@ -181,6 +189,16 @@ public Subject subject() {
         ((GameProfileCacheBridge) this.profileCache).bridge$setCanSave(false);
     }
 
+    @Inject(method = "saveAllChunks", at = @At("RETURN"))
+    private void impl$saveSpongeDataOnSave(
+            final boolean suppressLog,
+            final boolean flush,
+            final boolean forced,
+            final CallbackInfoReturnable<Boolean> cir) {
+        this.getPlayerDataManager().save();
+        this.getUsernameCache().save();
+    }
+
     /**
      * @author Zidane
      * @reason Apply our branding
@@ -211,6 +229,14 @@ public String getServerModName() {
         }
     }
 
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void impl$flushSpongeData(final CallbackInfo ci) {
+        this.getPlayerDataManager().shutdown();
+        this.getUsernameCache().shutdown();
+        this.getDataSerializer().shutdown();
+        SpongeRegionIndex.INSTANCE.clear();
+    }
+
     @ModifyConstant(method = "tickServer", constant = @Constant(intValue = 6000, ordinal = 0))
     private int getSaveTickInterval(final int tickInterval) {
         if (!this.shadow$isDedicatedServer()) {
@@ -364,6 +390,7 @@ public void setDifficulty(final Difficulty difficulty, final boolean forceDiffic
     public void impl$serializeDelayedDataPack(Collection<String> datapacksToLoad, CallbackInfoReturnable<CompletableFuture<Void>> cir) {
         cir.getReturnValue().thenAccept(v -> {
             SpongeDataPackManager.INSTANCE.serializeDelayedDataPack(DataPackTypes.WORLD);
+            SpongeRegistryReference.invalidateResolvedValues();
         });
     }
 
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.common.mixin.core.server;
 
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.minecraft.network.protocol.Packet;
@@ -58,14 +61,17 @@
 import org.spongepowered.common.bridge.world.scores.ScoreBridge;
 import org.spongepowered.common.bridge.world.scores.ObjectiveBridge;
 import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
+import org.spongepowered.common.scoreboard.ScoreboardSync;
 import org.spongepowered.common.scoreboard.SpongeDisplaySlot;
 import org.spongepowered.common.scoreboard.SpongeObjective;
 import org.spongepowered.common.scoreboard.SpongeScore;
 import org.spongepowered.common.util.Constants;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -81,6 +87,9 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
     @Shadow protected abstract void shadow$setDirty();
 
     private final List<ServerPlayer> impl$players = new ArrayList<>();
+    // Score changes of the current tick and the scores last sent to the players, per objective and owner
+    private final Map<String, Object2IntMap<String>> impl$pendingScores = new LinkedHashMap<>();
+    private final Map<String, Object2IntMap<String>> impl$sentScores = new HashMap<>();
 
     // Update objective in display slot
 
@@ -157,6 +166,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
         }
 
         ((ServerScoreboardBridge) this).bridge$sendToPlayers(new ClientboundSetObjectivePacket(scoreObjective, Constants.Scoreboards.OBJECTIVE_PACKET_REMOVE));
+        this.impl$sentScores.remove(scoreObjective.getName());
 
         final List list = ((ScoreboardAccessor) this).accessor$objectivesByCriteria().get(scoreObjective.getCriteria());
 
@@ -201,13 +211,51 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$sendToPlayers(final Packet<?> packet) {
+        // Queued scores have to arrive before anything that may depend on them
+        this.bridge$flushScores();
         for (final ServerPlayer player: this.impl$players) {
             player.connection.send(packet);
         }
     }
 
+    @Override
+    public void bridge$flushScores() {
+        if (this.impl$pendingScores.isEmpty()) {
+            return;
+        }
+        int sent = 0;
+        int unchanged = 0;
+        for (final Map.Entry<String, Object2IntMap<String>> pending : this.impl$pendingScores.entrySet()) {
+            final String objectiveName = pending.getKey();
+            final Object2IntMap<String> sentScores = this.impl$sentScores.computeIfAbsent(objectiveName, k -> new Object2IntOpenHashMap<>());
+            for (final Object2IntMap.Entry<String> score : pending.getValue().object2IntEntrySet()) {
+                final String owner = score.getKey();
+                final int value = score.getIntValue();
+                if (sentScores.containsKey(owner) && sentScores.getInt(owner) == value) {
+                    unchanged++;
+                    continue;
+                }
+                sentScores.put(owner, value);
+                final ClientboundSetScorePacket packet = new ClientboundSetScorePacket(Method.CHANGE, objectiveName, owner, value);
+                for (final ServerPlayer player : this.impl$players) {
+                    player.connection.send(packet);
+                }
+                sent++;
+            }
+        }
+        this.impl$pendingScores.clear();
+        ScoreboardSync.flushed(sent, unchanged);
+    }
+
+    private void impl$forgetSentScores(final String owner) {
+        for (final Object2IntMap<String> sentScores : this.impl$sentScores.values()) {
+            sentScores.removeInt(owner);
+        }
+    }
+
     @Override
     public void bridge$addPlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.bridge$flushScores();
         this.impl$players.add(player);
         if (sendPackets) {
             for (final PlayerTeam team : this.getPlayerTeams()) {
@@ -235,6 +283,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$removePlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.bridge$flushScores();
         this.impl$players.remove(player);
         if (sendPackets) {
             this.impl$removeScoreboard(player);
@@ -289,8 +338,17 @@ public void resetPlayerScore(final String name, final net.minecraft.world.scores
 
     @Redirect(method = "onScoreChanged",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/server/players/PlayerList;broadcastAll(Lnet/minecraft/network/protocol/Packet;)V"))
-    private void onUpdateScoreValue(final PlayerList manager, final Packet<?> packet) {
-        this.bridge$sendToPlayers(packet);
+    private void onUpdateScoreValue(final PlayerList manager, final Packet<?> packet, final Score score) {
+        if (this.impl$players.isEmpty()) {
+            // Players added later are sent every score anyway
+            this.impl$sentScores.clear();
+            return;
+        }
+        final Object2IntMap<String> pending = this.impl$pendingScores.computeIfAbsent(score.getObjective().getName(),
+            k -> new Object2IntLinkedOpenHashMap<>());
+        final boolean replacedPending = pending.containsKey(score.getOwner());
+        pending.put(score.getOwner(), score.getScore());
+        ScoreboardSync.queued(this, replacedPending);
     }
 
     @Redirect(method = "onScoreChanged", at = @At(value = "INVOKE", target = "Ljava/util/Set;contains(Ljava/lang/Object;)Z", remap = false))
@@ -298,6 +356,21 @@ private boolean onUpdateScoreValue(final Set<?> set, final Object object) {
         return true;
     }
 
+    @Inject(method = "onPlayerRemoved", at = @At("HEAD"))
+    private void impl$forgetRemovedPlayerScores(final String owner, final CallbackInfo ci) {
+        this.bridge$flushScores();
+        this.impl$forgetSentScores(owner);
+    }
+
+    @Inject(method = "onPlayerScoreRemoved", at = @At("HEAD"))
+    private void impl$forgetRemovedScore(final String owner, final net.minecraft.world.scores.Objective objective, final CallbackInfo ci) {
+        this.bridge$flushScores();
+        final Object2IntMap<String> sentScores = this.impl$sentScores.get(objective.getName());
+        if (sentScores != null) {
+            sentScores.removeInt(owner);
+        }
+    }
+
     @Redirect(method = "onPlayerRemoved",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/server/players/PlayerList;broadcastAll(Lnet/minecraft/network/protocol/Packet;)V"))
     private void impl$updatePlayersOnRemoval(final PlayerList manager, final Packet<?> packet) {
@@ -318,6 +391,7 @@ private boolean onUpdateScoreValue(final Set<?> set, final Object object) {
     @Inject(method = "onObjectiveAdded", at = @At("RETURN"))
     private void impl$UpdatePlayersScoreObjective(final net.minecraft.world.scores.Objective objective, final CallbackInfo ci) {
         this.bridge$sendToPlayers(new ClientboundSetObjectivePacket(objective, Constants.Scoreboards.OBJECTIVE_PACKET_ADD));
+        this.impl$sentScores.remove(objective.getName());
     }
 
     /**
@@ -382,6 +456,13 @@ public void setDisplayObjective(final int slot, @Nullable final net.minecraft.wo
         this.bridge$sendToPlayers(packet);
     }
 
+    @Inject(method = {"startTrackingObjective", "stopTrackingObjective"}, at = @At("HEAD"))
+    private void impl$flushScoresOnTrackingChange(final net.minecraft.world.scores.Objective objective, final CallbackInfo ci) {
+        // Tracking changes send their packets directly to each player, bypassing the queue
+        this.bridge$flushScores();
+        this.impl$sentScores.remove(objective.getName());
+    }
+
     @Redirect(method = "startTrackingObjective",
         at = @At(value = "INVOKE", target = "Ljava/util/List;iterator()Ljava/util/Iterator;", ordinal = 0, remap = false))
     private Iterator impl$useOurScoreboardForPlayers(final List list) {
@@ -61,6 +61,8 @@
 import org.spongepowered.common.util.DirectionUtil;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.function.BooleanSupplier;
+
 @Mixin(ChunkMap.class)
 public abstract class ChunkMapMixin implements ChunkMapBridge {
 
@@ -84,6 +86,15 @@ public abstract class ChunkMapMixin implements ChunkMapBridge {
         }
     }
 
+    @Redirect(method = "tick(Ljava/util/function/BooleanSupplier;)V",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;tick(Ljava/util/function/BooleanSupplier;)V"))
+    private void impl$doNotWritePOIWhileNotSaving(final PoiManager pointOfInterestManager, final BooleanSupplier haveTime) {
+        // Chunk unloads are already held back while the level isn't saving, do the same for the dirty POI sections
+        if (!this.level.noSave()) {
+            pointOfInterestManager.tick(haveTime);
+        }
+    }
+
     @Redirect(method = "save", at = @At(value = "INVOKE",
             target = "Lnet/minecraft/world/level/chunk/storage/ChunkSerializer;write(Lnet/minecraft/server/level/ServerLevel;"
                     + "Lnet/minecraft/world/level/chunk/ChunkAccess;)Lnet/minecraft/nbt/CompoundTag;"))
@@ -136,6 +136,7 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.border.PlayerOwnBorderListener;
 import org.spongepowered.common.world.portal.PlatformTeleporter;
+import org.spongepowered.common.world.region.SpongeRegionIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.HashSet;
@@ -628,6 +629,8 @@ public void teleportTo(
         this.lastSentExp = -1;
         this.lastSentHealth = -1.0F;
         this.lastSentFood = -1;
+        // Sponge: portals move the player without a teleport packet
+        SpongeRegionIndex.INSTANCE.update((ServerPlayer) this);
     }
 
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
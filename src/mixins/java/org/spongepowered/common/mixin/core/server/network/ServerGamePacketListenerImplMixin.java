@@ -44,9 +44,11 @@
 import net.minecraft.network.protocol.game.ClientboundBlockBreakAckPacket;
 import net.minecraft.network.protocol.game.ClientboundCommandSuggestionsPacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoPacket;
+import net.minecraft.network.protocol.game.ClientboundPlayerPositionPacket;
 import net.minecraft.network.protocol.game.ServerboundCommandSuggestionPacket;
 import net.minecraft.network.protocol.game.ServerboundInteractPacket;
 import net.minecraft.network.protocol.game.ServerboundMovePlayerPacket;
+import net.minecraft.network.protocol.game.ServerboundMoveVehiclePacket;
 import net.minecraft.network.protocol.game.ServerboundPlayerActionPacket;
 import net.minecraft.network.protocol.game.ServerboundSignUpdatePacket;
 import net.minecraft.network.protocol.game.ServerboundSwingPacket;
@@ -56,6 +58,7 @@
 import net.minecraft.server.level.ServerPlayerGameMode;
 import net.minecraft.server.network.ServerGamePacketListenerImpl;
 import net.minecraft.server.players.PlayerList;
+import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
@@ -99,6 +102,8 @@
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.MoveEventCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.accessor.network.protocol.game.ServerboundMovePlayerPacketAccessor;
 import org.spongepowered.common.accessor.server.level.ServerPlayerGameModeAccessor;
 import org.spongepowered.common.accessor.world.entity.EntityAccessor;
@@ -120,6 +125,7 @@
 import org.spongepowered.common.util.CommandUtil;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.region.SpongeRegionIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.lang.ref.WeakReference;
@@ -128,6 +134,7 @@
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -276,9 +283,18 @@ public abstract class ServerGamePacketListenerImplMixin implements ConnectionHol
         }
 
         final boolean goodMovementPacket = this.receivedMovePacketCount - this.knownMovePacketCount <= 5;
-        final boolean fireMoveEvent = goodMovementPacket && packetInAccessor.accessor$hasPos() && ShouldFire.MOVE_ENTITY_EVENT;
+        final boolean fireMoveEvent = goodMovementPacket && packetInAccessor.accessor$hasPos() && ShouldFire.MOVE_ENTITY_EVENT
+                && this.impl$crossesMoveEventThreshold(packetIn);
         final boolean fireRotationEvent = goodMovementPacket && packetInAccessor.accessor$hasRot() && ShouldFire.ROTATE_ENTITY_EVENT;
 
+        // Decide with primitives whether anything will be fired before allocating any of the event state
+        final double deltaYaw = packetIn.getYRot(this.player.yRot) - this.player.yRot;
+        final double deltaPitch = packetIn.getXRot(this.player.xRot) - this.player.xRot;
+        final boolean significantRotation = deltaYaw * deltaYaw + deltaPitch * deltaPitch > (.15f * .15f);
+        if (!fireMoveEvent && !(significantRotation && fireRotationEvent)) {
+            return;
+        }
+
         final ServerPlayer player = (ServerPlayer) this.player;
         final Vector3d fromRotation = new Vector3d(this.player.yRot, this.player.xRot, 0);
 
@@ -291,8 +307,6 @@ public abstract class ServerGamePacketListenerImplMixin implements ConnectionHol
         Vector3d toRotation = new Vector3d(packetIn.getYRot(this.player.yRot),
                 packetIn.getXRot(this.player.xRot), 0);
 
-        final boolean significantRotation = fromRotation.distanceSquared(toRotation) > (.15f * .15f);
-
         final Vector3d originalToPosition = toPosition;
         boolean cancelMovement = false;
         boolean cancelRotation = false;
@@ -364,6 +378,46 @@ public abstract class ServerGamePacketListenerImplMixin implements ConnectionHol
         }
     }
 
+    @Inject(method = "handleMovePlayer", at = @At("RETURN"))
+    private void impl$updateRegions(final ServerboundMovePlayerPacket packetIn, final CallbackInfo ci) {
+        SpongeRegionIndex.INSTANCE.update((ServerPlayer) this.player);
+    }
+
+    @Inject(method = "handleMoveVehicle", at = @At("RETURN"))
+    private void impl$updateRegionsOnVehicleMove(final ServerboundMoveVehiclePacket packetIn, final CallbackInfo ci) {
+        SpongeRegionIndex.INSTANCE.update((ServerPlayer) this.player);
+    }
+
+    @Inject(method = "teleport(DDDFFLjava/util/Set;)V", at = @At("RETURN"))
+    private void impl$updateRegionsOnTeleport(final double x, final double y, final double z, final float yaw, final float pitch,
+            final Set<ClientboundPlayerPositionPacket.RelativeArgument> relativeSet, final CallbackInfo ci) {
+        SpongeRegionIndex.INSTANCE.update((ServerPlayer) this.player);
+    }
+
+    private boolean impl$crossesMoveEventThreshold(final ServerboundMovePlayerPacket packetIn) {
+        final MoveEventCategory category = SpongeConfigs.getCommon().get().optimizations.moveEvent;
+        if (category.threshold == MoveEventCategory.Threshold.PACKET) {
+            return true;
+        }
+        final int fromX = Mth.floor(this.player.getX());
+        final int fromY = Mth.floor(this.player.getY());
+        final int fromZ = Mth.floor(this.player.getZ());
+        final int toX = Mth.floor(packetIn.getX(this.player.getX()));
+        final int toY = Mth.floor(packetIn.getY(this.player.getY()));
+        final int toZ = Mth.floor(packetIn.getZ(this.player.getZ()));
+        switch (category.threshold) {
+            case BLOCK:
+                return fromX != toX || fromY != toY || fromZ != toZ;
+            case CHUNK:
+                return (fromX >> 4) != (toX >> 4) || (fromZ >> 4) != (toZ >> 4);
+            case REGION:
+                final int size = Math.max(1, category.regionSize);
+                return Math.floorDiv(fromX, size) != Math.floorDiv(toX, size) || Math.floorDiv(fromZ, size) != Math.floorDiv(toZ, size);
+            default:
+                return true;
+        }
+    }
+
     @Inject(
             method = "handleInteract",
             cancellable = true,
@@ -528,6 +582,7 @@ public abstract class ServerGamePacketListenerImplMixin implements ConnectionHol
         }
 
         ((ServerPlayerBridge) this.player).bridge$getWorldBorderListener().onPlayerDisconnect();
+        SpongeRegionIndex.INSTANCE.remove(this.player.getUUID());
     }
 
     @Redirect(method = "handleSignUpdate", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/network/ServerGamePacketListenerImpl;filterTextPacket(Ljava/util/List;Ljava/util/function/Consumer;)V"))
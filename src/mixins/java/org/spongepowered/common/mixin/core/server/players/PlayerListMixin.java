@@ -102,6 +102,7 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.NetworkUtil;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.region.SpongeRegionIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.net.InetAddress;
@@ -503,6 +504,12 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         SpongeCommon.post(event);
     }
 
+    @Inject(method = "respawn", at = @At("RETURN"))
+    private void impl$updateRegionsOnRespawn(final net.minecraft.server.level.ServerPlayer player, final boolean keepAllPlayerData,
+            final CallbackInfoReturnable<net.minecraft.server.level.ServerPlayer> cir) {
+        SpongeRegionIndex.INSTANCE.update((ServerPlayer) cir.getReturnValue());
+    }
+
     @Redirect(method = "sendLevelInfo", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;overworld()Lnet/minecraft/server/level/ServerLevel;"))
     private ServerLevel impl$usePerWorldWorldBorder(final MinecraftServer minecraftServer, final net.minecraft.server.level.ServerPlayer playerIn,
             final ServerLevel worldIn) {
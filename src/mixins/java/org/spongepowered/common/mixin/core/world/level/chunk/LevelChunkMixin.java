@@ -57,21 +57,20 @@
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerStorage;
 import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DirectionUtil;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongToIntFunction;
 
 @Mixin(net.minecraft.world.level.chunk.LevelChunk.class)
 public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridge {
@@ -94,8 +93,7 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
-    private Map<Integer, PlayerTracker> impl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> impl$trackedShortBlockPositions = new HashMap<>();
+    private PlayerTrackerStorage impl$playerTrackers = new PlayerTrackerStorage();
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/chunk/ChunkBiomeContainer;Lnet/minecraft/world/level/chunk/UpgradeData;Lnet/minecraft/world/level/TickList;Lnet/minecraft/world/level/TickList;J[Lnet/minecraft/world/level/chunk/LevelChunkSection;Ljava/util/function/Consumer;)V",
             at = @At("RETURN"))
@@ -139,23 +137,13 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return this.impl$trackedIntBlockPositions;
+    public PlayerTrackerStorage bridge$getPlayerTrackers() {
+        return this.impl$playerTrackers;
     }
 
     @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return this.impl$trackedShortBlockPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.impl$trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.impl$trackedShortBlockPositions = trackedPositions;
+    public void bridge$setPlayerTrackers(final PlayerTrackerStorage playerTrackers) {
+        this.impl$playerTrackers = playerTrackers;
     }
 
     @Override
@@ -190,12 +178,11 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
         }
 
         if (trackerType == PlayerTracker.Type.CREATOR) {
-            this.impl$setTrackedUUID(pos, user.uniqueId(), trackerType, (pt, idx) -> {
-                pt.creatorindex = idx;
-                pt.notifierIndex = idx;
-            });
+            this.impl$setTrackedUUID(pos, user.uniqueId(), (tracked, idx) -> tracked == PlayerTrackerStorage.UNTRACKED
+                ? PlayerTrackerStorage.pack((int) idx, -1)
+                : PlayerTrackerStorage.pack((int) idx, (int) idx));
         } else {
-            this.impl$setTrackedUUID(pos, user.uniqueId(), trackerType, (pt, idx) -> pt.notifierIndex = idx);
+            this.impl$setTrackedUUID(pos, user.uniqueId(), (tracked, idx) -> PlayerTrackerStorage.pack(PlayerTrackerStorage.creatorIndex(tracked), (int) idx));
         }
     }
 
@@ -205,29 +192,21 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
         return uuid.flatMap(this::impl$getValidatedUser);
     }
 
-    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final Function<PlayerTracker, Integer> func) {
+    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final LongToIntFunction func) {
         if (((WorldBridge) this.level).bridge$isFake()) {
             return Optional.empty();
         }
 
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.impl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = func.apply(intTracker);
-            return this.impl$getValidatedUUID(key, ownerIndex);
-        }
-        final short shortKey = Constants.Sponge.blockPosToShort(pos);
-        final PlayerTracker shortTracker = this.impl$trackedShortBlockPositions.get(shortKey);
-        if (shortTracker != null) {
-            final int ownerIndex = func.apply(shortTracker);
-            return this.impl$getValidatedUUID(shortKey, ownerIndex);
+        final long tracked = this.impl$playerTrackers.get(pos.getX(), pos.getY(), pos.getZ());
+        if (tracked == PlayerTrackerStorage.UNTRACKED) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return this.impl$getValidatedUUID(pos, func.applyAsInt(tracked));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-       return this.bridge$trackedUUID(pos, pt -> pt.creatorindex);
+       return this.bridge$trackedUUID(pos, PlayerTrackerStorage::creatorIndex);
     }
 
     @Override
@@ -238,57 +217,40 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return this.bridge$trackedUUID(pos, pt -> pt.notifierIndex);
-    }
-
-    private <T> void impl$computePlayerTracker(final Map<T, PlayerTracker> map, final T blockPos, final int index, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        final PlayerTracker tracker = map.get(blockPos);
-        if (tracker != null) {
-            consumer.accept(tracker, index);
-        } else {
-            map.put(blockPos, new PlayerTracker(index, type));
-        }
+        return this.bridge$trackedUUID(pos, PlayerTrackerStorage::notifierIndex);
     }
 
-    private void impl$setTrackedUUID(final BlockPos pos, final UUID uuid, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
+    private void impl$setTrackedUUID(final BlockPos pos, final UUID uuid, final LongBinaryOperator updater) {
         if (((WorldBridge) this.level).bridge$isFake()) {
             return;
         }
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
         final int index = uuid == null ? -1 : worldInfo.bridge$getIndexForUniqueId(uuid);
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            this.impl$computePlayerTracker(this.impl$trackedShortBlockPositions, blockPos, index, type, consumer);
-            return;
-        }
-        final int blockPos = Constants.Sponge.blockPosToInt(pos);
-        this.impl$computePlayerTracker(this.impl$trackedIntBlockPositions, blockPos, index, type, consumer);
+        final long tracked = this.impl$playerTrackers.get(pos.getX(), pos.getY(), pos.getZ());
+        this.impl$playerTrackers.set(pos.getX(), pos.getY(), pos.getZ(), updater.applyAsLong(tracked, index));
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
-       this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.NOTIFIER, (pt, idx) -> pt.notifierIndex = idx);
+       this.impl$setTrackedUUID(pos, uuid, (tracked, idx) -> PlayerTrackerStorage.pack(PlayerTrackerStorage.creatorIndex(tracked), (int) idx));
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
-        this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.CREATOR, (pt, idx) -> pt.creatorindex = idx);
+        this.impl$setTrackedUUID(pos, uuid, (tracked, idx) -> PlayerTrackerStorage.pack((int) idx, PlayerTrackerStorage.notifierIndex(tracked)));
     }
 
     private Optional<User> impl$getValidatedUser(final UUID uuid) {
         return Sponge.server().userManager().find(uuid);
     }
 
-    private Optional<UUID> impl$getValidatedUUID(final int key, final int ownerIndex) {
+    private Optional<UUID> impl$getValidatedUUID(final BlockPos pos, final int ownerIndex) {
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
-        final UUID uuid = worldInfo.bridge$getUniqueIdForIndex(ownerIndex).orElse(null);
+        final UUID uuid = worldInfo.bridge$getUniqueIdForIndex(ownerIndex);
         if (uuid != null) {
             // Verify id is valid and not invalid
             if (SpongeConfigs.getCommon().get().world.invalidLookupUuids.contains(uuid)) {
-                if (key <= Short.MAX_VALUE) {
-                    this.impl$trackedShortBlockPositions.remove((short) key);
-                }
-                this.impl$trackedIntBlockPositions.remove(key);
+                this.impl$playerTrackers.remove(pos.getX(), pos.getY(), pos.getZ());
                 return Optional.empty();
             }
 
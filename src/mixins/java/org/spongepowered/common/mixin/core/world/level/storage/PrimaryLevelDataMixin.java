@@ -80,9 +80,9 @@
 import org.spongepowered.common.util.MapUtil;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.server.SpongeWorldManager;
+import org.spongepowered.common.world.storage.PlayerUniqueIdTable;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -113,9 +113,7 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
     private Boolean impl$pvp;
     private InheritableConfigHandle<WorldConfig> impl$configAdapter;
 
-    private final BiMap<Integer, UUID> impl$playerUniqueIdMap = HashBiMap.create();
-    private final List<UUID> impl$pendingUniqueIds = new ArrayList<>();
-    private int impl$trackedUniqueIdCount = 0;
+    private final PlayerUniqueIdTable impl$playerUniqueIds = new PlayerUniqueIdTable();
 
     private boolean impl$customDifficulty = false, impl$customGameType = false, impl$customSpawnPosition = false, impl$loadOnStartup,
         impl$performsSpawnLogic;
@@ -315,19 +313,12 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
 
     @Override
     public int bridge$getIndexForUniqueId(UUID uuid) {
-        final Integer index = this.impl$playerUniqueIdMap.inverse().get(uuid);
-        if (index != null) {
-            return index;
-        }
-
-        this.impl$playerUniqueIdMap.put(this.impl$trackedUniqueIdCount, uuid);
-        this.impl$pendingUniqueIds.add(uuid);
-        return this.impl$trackedUniqueIdCount++;
+        return this.impl$playerUniqueIds.indexOf(uuid);
     }
 
     @Override
-    public Optional<UUID> bridge$getUniqueIdForIndex(final int index) {
-        return Optional.ofNullable(this.impl$playerUniqueIdMap.get(index));
+    public @Nullable UUID bridge$getUniqueIdForIndex(final int index) {
+        return this.impl$playerUniqueIds.get(index);
     }
 
     @Override
@@ -397,12 +388,7 @@ public ServerLevelData overworldData() {
         // TODO Move this to Schema
         dynamic.get(Constants.Sponge.LEGACY_SPONGE_PLAYER_UUID_TABLE).readList(LegacyUUIDCodec.CODEC).result().orElseGet(() ->
             dynamic.get(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE).readList(SerializableUUID.CODEC).result().orElse(Collections.emptyList())
-        ).forEach(uuid -> {
-            final Integer playerIndex = this.impl$playerUniqueIdMap.inverse().get(uuid);
-            if (playerIndex == null) {
-                this.impl$playerUniqueIdMap.put(this.impl$trackedUniqueIdCount++, uuid);
-            }
-        });
+        ).forEach(this.impl$playerUniqueIds::indexOf);
     }
 
     @Override
@@ -417,8 +403,8 @@ public ServerLevelData overworldData() {
 
         final ListTag playerIdList = new ListTag();
         data.put(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, playerIdList);
-        this.impl$pendingUniqueIds.forEach(uuid -> playerIdList.add(new IntArrayTag(SerializableUUID.uuidToIntArray(uuid))));
-        this.impl$pendingUniqueIds.clear();
+        // Indices are positions in this list, so the whole table is written every time
+        this.impl$playerUniqueIds.forEach(uuid -> playerIdList.add(new IntArrayTag(SerializableUUID.uuidToIntArray(uuid))));
 
         return data;
     }
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.common.mixin.inventory.event.world.inventory;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.spongepowered.api.event.item.inventory.CraftItemEvent;
 import org.spongepowered.api.item.inventory.Carrier;
 import org.spongepowered.api.item.inventory.Inventory;
@@ -426,25 +429,39 @@ public void broadcastChanges() {
 
     @Shadow public abstract NonNullList<ItemStack> shadow$getItems();
 
+    // The stack and count last seen in each slot while it matched lastSlots, for stacks without a tag
+    private ItemStack[] impl$cleanStacks = new ItemStack[0];
+    private int[] impl$cleanCounts = new int[0];
+
     @Override
     public void bridge$detectAndSendChanges(final boolean captureOnly) {
         // Code-Flow changed from vanilla completely!
 
         SpongeInventoryMenu menu = ((MenuBridge)this).bridge$getMenu();
         // We first collect all differences and check if cancelled for readonly menu changes
-        List<Integer> changes = new ArrayList<>();
+        final IntList changes = new IntArrayList();
 
+        if (this.impl$cleanStacks.length != this.slots.size()) {
+            this.impl$cleanStacks = new ItemStack[this.slots.size()];
+            this.impl$cleanCounts = new int[this.slots.size()];
+        }
         for (int i = 0; i < this.slots.size(); ++i) {
             final Slot slot = this.slots.get(i);
             final ItemStack newStack = slot.getItem();
+            if (this.impl$isClean(i, newStack)) {
+                continue;
+            }
             ItemStack oldStack = this.lastSlots.get(i);
             if (!ItemStack.matches(oldStack, newStack)) {
                 changes.add(i);
+            } else {
+                this.impl$markClean(i, newStack);
             }
         }
 
         // For each change
-        for (Integer i : changes) {
+        for (final IntIterator iterator = changes.iterator(); iterator.hasNext(); ) {
+            final int i = iterator.nextInt();
             final Slot slot = this.slots.get(i);
             ItemStack newStack = slot.getItem();
             ItemStack oldStack = this.lastSlots.get(i);
@@ -452,6 +469,7 @@ public void broadcastChanges() {
             // Check for on change menu callbacks
             if (this.impl$menuCapture != null && menu != null && !menu.onChange(newStack, oldStack, (org.spongepowered.api.item.inventory.Container) this, i, slot)) {
                 this.lastSlots.set(i, oldStack.copy());  // revert changes
+                this.impl$cleanStacks[i] = null;
                 // Send reverted slots to clients
                 this.impl$sendSlotContents(i, oldStack);
             } else {
@@ -461,11 +479,13 @@ public void broadcastChanges() {
                 // This flag is set only when the client sends an invalid CPacketWindowClickItem packet.
                 // We simply capture in order to send the proper changes back to client.
                 if (captureOnly) {
+                    this.impl$cleanStacks[i] = null;
                     continue;
                 }
                 // Perform vanilla logic - updating inventory stack - notify listeners
                 oldStack = newStack.isEmpty() ? ItemStack.EMPTY : newStack.copy();
                 this.lastSlots.set(i, oldStack);
+                this.impl$markClean(i, newStack);
                 // TODO forge checks !itemstack1.equals(itemstack, true) before doing this
                 for (ContainerListener listener : this.containerListeners) {
                     listener.slotChanged(((AbstractContainerMenu) (Object) this), i, oldStack);
@@ -481,6 +501,26 @@ public void broadcastChanges() {
         }
     }
 
+    /**
+     * Checks whether the slot still holds the same untagged stack, with the
+     * same count, that matched {@link #lastSlots} when it was last compared.
+     * The item of a stack never changes, so such a slot cannot have changed.
+     * Tagged stacks are always compared, as their tag may be modified in
+     * place without the slot or its container being notified.
+     */
+    private boolean impl$isClean(final int index, final ItemStack stack) {
+        return this.impl$cleanStacks[index] == stack && this.impl$cleanCounts[index] == stack.getCount() && stack.getTag() == null;
+    }
+
+    private void impl$markClean(final int index, final ItemStack stack) {
+        if (stack.getTag() == null) {
+            this.impl$cleanStacks[index] = stack;
+            this.impl$cleanCounts[index] = stack.getCount();
+        } else {
+            this.impl$cleanStacks[index] = null;
+        }
+    }
+
     public void impl$sendSlotContents(Integer i, ItemStack oldStack) {
 
         for (ContainerListener listener : this.containerListeners) {
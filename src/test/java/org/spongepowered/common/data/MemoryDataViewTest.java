@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+public class MemoryDataViewTest {
+
+    @Test
+    void testNestedSetAndGet() {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("a", "b", "c"), 1);
+        container.set(DataQuery.of("a", "d"), "text");
+
+        assertEquals(Optional.of(1), container.get(DataQuery.of("a", "b", "c")));
+        assertEquals(Optional.of("text"), container.get(DataQuery.of("a", "d")));
+        assertTrue(container.contains(DataQuery.of("a", "b")));
+        assertFalse(container.contains(DataQuery.of("a", "b", "x")));
+        assertFalse(container.get(DataQuery.of("a", "d", "e")).isPresent());
+
+        final DataView view = container.getView(DataQuery.of("a", "b")).get();
+        assertEquals(DataQuery.of("a", "b"), view.currentPath());
+        assertEquals(Optional.of(1), view.get(DataQuery.of("c")));
+    }
+
+    @Test
+    void testCreateViewHasFullPath() {
+        final DataContainer container = new MemoryDataContainer();
+        final DataView nested = container.createView(DataQuery.of("a", "b", "c"));
+
+        assertEquals(DataQuery.of("a", "b", "c"), nested.currentPath());
+        assertEquals(DataQuery.of("a", "b"), container.getView(DataQuery.of("a", "b")).get().currentPath());
+    }
+
+    @Test
+    void testRemoveNested() {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("a", "b"), 1);
+        container.set(DataQuery.of("a", "c"), 2);
+
+        container.remove(DataQuery.of("a", "b"));
+        container.remove(DataQuery.of("x", "y"));
+
+        assertFalse(container.contains(DataQuery.of("a", "b")));
+        assertEquals(Optional.of(2), container.get(DataQuery.of("a", "c")));
+    }
+
+    @Test
+    void testDeepValuesFollowDeepKeys() {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("a", "b", "c"), 1);
+        container.set(DataQuery.of("d"), 2);
+
+        final Map<DataQuery, Object> values = container.values(true);
+
+        assertEquals(Arrays.asList(DataQuery.of("a"), DataQuery.of("d"), DataQuery.of("a", "b"), DataQuery.of("a", "b", "c")),
+            Arrays.asList(values.keySet().toArray()));
+        assertEquals(container.keys(true), values.keySet());
+        assertEquals(1, values.get(DataQuery.of("a", "b", "c")));
+    }
+
+    @Test
+    void testSetViewCopiesAndMerges() {
+        final DataContainer source = new MemoryDataContainer();
+        source.set(DataQuery.of("b", "c"), 1);
+        source.set(DataQuery.of("d"), 2);
+
+        final DataContainer target = new MemoryDataContainer();
+        target.set(DataQuery.of("a", "e"), 3);
+        target.set(DataQuery.of("a"), source);
+        source.set(DataQuery.of("d"), 4);
+
+        assertEquals(Optional.of(1), target.get(DataQuery.of("a", "b", "c")));
+        assertEquals(Optional.of(2), target.get(DataQuery.of("a", "d")));
+        assertEquals(Optional.of(3), target.get(DataQuery.of("a", "e")));
+        assertEquals(target, target.copy());
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+final class AsyncDataSerializerTest {
+
+    private static final DataQuery VALUE = DataQuery.of("value");
+
+    private static DataContainer data(final String value) {
+        return new MemoryDataContainer().set(AsyncDataSerializerTest.VALUE, value);
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the value as plain text and records the threads it ran on.
+     * Writing the value "block" waits until released.
+     */
+    private static final class TestFormat implements DataFormat {
+
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public DataContainer readFrom(final InputStream input) throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[256];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return AsyncDataSerializerTest.data(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeTo(final OutputStream output, final DataView data) throws IOException {
+            this.threads.add(Thread.currentThread().getName());
+            final String value = data.getString(AsyncDataSerializerTest.VALUE).get();
+            if (value.equals("block")) {
+                this.blocked.countDown();
+                try {
+                    this.release.await();
+                } catch (final InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            output.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testWritesCompleteInOrder(@TempDir final Path directory) throws IOException {
+        final AsyncDataSerializer serializer = new AsyncDataSerializer();
+        final TestFormat format = new TestFormat();
+        final Path file = directory.resolve("data.dat");
+
+        CompletableFuture<Void> last = null;
+        for (int i = 0; i < AsyncDataSerializer.MAX_QUEUED_TASKS * 3; i++) {
+            last = serializer.write(format, AsyncDataSerializerTest.data(Integer.toString(i)), file, AsyncDataSerializer.Compression.GZIP);
+        }
+        last.join();
+
+        final DataContainer read = serializer.read(format, file, AsyncDataSerializer.Compression.GZIP).join();
+        Assertions.assertEquals("" + (AsyncDataSerializer.MAX_QUEUED_TASKS * 3 - 1), read.getString(AsyncDataSerializerTest.VALUE).get());
+        // No temporary files are left behind
+        try (final Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(1, files.count());
+        }
+        serializer.shutdown();
+    }
+
+    @Test
+    void testSaturatedQueueBlocksSubmitter(@TempDir final Path directory) throws Exception {
+        final AsyncDataSerializer serializer = new AsyncDataSerializer();
+        final TestFormat format = new TestFormat();
+        final Path file = directory.resolve("data.dat");
+
+        final CompletableFuture<byte[]> blocking = serializer.serialize(format, AsyncDataSerializerTest.data("block"),
+                AsyncDataSerializer.Compression.NONE);
+        Assertions.assertTrue(format.blocked.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < AsyncDataSerializer.MAX_QUEUED_TASKS; i++) {
+            serializer.write(format, AsyncDataSerializerTest.data(Integer.toString(i)), file, AsyncDataSerializer.Compression.NONE);
+        }
+
+        final AtomicReference<CompletableFuture<Void>> overflow = new AtomicReference<>();
+        final Thread submitter = new Thread(() -> overflow.set(
+                serializer.write(format, AsyncDataSerializerTest.data("last"), file, AsyncDataSerializer.Compression.NONE)));
+        submitter.start();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (submitter.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(Thread.State.WAITING, submitter.getState());
+        Assertions.assertNull(overflow.get());
+
+        format.release.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(10));
+        overflow.get().join();
+
+        Assertions.assertEquals("block", new String(blocking.join(), StandardCharsets.UTF_8));
+        Assertions.assertEquals("last", AsyncDataSerializerTest.read(file));
+        // Nothing ran on the submitting threads
+        Assertions.assertEquals(AsyncDataSerializer.MAX_QUEUED_TASKS + 2, format.threads.size());
+        for (final String thread : format.threads) {
+            Assertions.assertEquals("Sponge - Data Serialization Thread", thread);
+        }
+        serializer.shutdown();
+    }
+
+    @Test
+    void testSubmitAfterShutdownFails(@TempDir final Path directory) {
+        final AsyncDataSerializer serializer = new AsyncDataSerializer();
+        serializer.shutdown();
+
+        final CompletableFuture<Void> future = serializer.write(new TestFormat(), AsyncDataSerializerTest.data("late"),
+                directory.resolve("data.dat"), AsyncDataSerializer.Compression.NONE);
+        Assertions.assertTrue(future.isCompletedExceptionally());
+        Assertions.assertFalse(Files.exists(directory.resolve("data.dat")));
+    }
+}
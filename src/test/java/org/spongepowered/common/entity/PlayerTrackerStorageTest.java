@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.util.Constants;
+
+final class PlayerTrackerStorageTest {
+
+    private static CompoundTag legacyEntry(final String key, final BlockPos pos, final int owner, final int notifier) {
+        final CompoundTag data = new CompoundTag();
+        if (key.equals("pos")) {
+            data.putShort(key, Constants.Sponge.blockPosToShort(pos));
+        } else {
+            data.putInt(key, Constants.Sponge.blockPosToInt(pos));
+        }
+        if (owner != -1) {
+            data.putInt("owner", owner);
+        }
+        if (notifier != -1) {
+            data.putInt("notifier", notifier);
+        }
+        return data;
+    }
+
+    private static void assertTracked(final PlayerTrackerStorage storage, final int x, final int y, final int z, final int owner,
+            final int notifier) {
+        final long packed = storage.get(x, y, z);
+        Assertions.assertEquals(owner, PlayerTrackerStorage.creatorIndex(packed), "creator at " + x + ", " + y + ", " + z);
+        Assertions.assertEquals(notifier, PlayerTrackerStorage.notifierIndex(packed), "notifier at " + x + ", " + y + ", " + z);
+    }
+
+    @Test
+    void testPack() {
+        final long packed = PlayerTrackerStorage.pack(-1, 42);
+        Assertions.assertEquals(-1, PlayerTrackerStorage.creatorIndex(packed));
+        Assertions.assertEquals(42, PlayerTrackerStorage.notifierIndex(packed));
+        Assertions.assertEquals(-1, PlayerTrackerStorage.creatorIndex(PlayerTrackerStorage.UNTRACKED));
+        Assertions.assertEquals(-1, PlayerTrackerStorage.notifierIndex(PlayerTrackerStorage.UNTRACKED));
+    }
+
+    @Test
+    void testReadLegacyShortPacked() {
+        final ListTag list = new ListTag();
+        list.add(PlayerTrackerStorageTest.legacyEntry("pos", new BlockPos(3, 70, 12), 5, 7));
+        list.add(PlayerTrackerStorageTest.legacyEntry("pos", new BlockPos(15, 255, 15), 2, -1));
+        list.add(PlayerTrackerStorageTest.legacyEntry("pos", new BlockPos(0, 0, 0), -1, 9));
+
+        final PlayerTrackerStorage storage = new PlayerTrackerStorage();
+        storage.readLegacy(list);
+
+        PlayerTrackerStorageTest.assertTracked(storage, 3, 70, 12, 5, 7);
+        PlayerTrackerStorageTest.assertTracked(storage, 15, 255, 15, 2, -1);
+        PlayerTrackerStorageTest.assertTracked(storage, 0, 0, 0, -1, 9);
+        Assertions.assertEquals(PlayerTrackerStorage.UNTRACKED, storage.get(12, 70, 3));
+    }
+
+    @Test
+    void testReadLegacyIntPacked() {
+        final ListTag list = new ListTag();
+        list.add(PlayerTrackerStorageTest.legacyEntry("ipos", new BlockPos(3, 70, 12), 5, 7));
+        // Heights which don't fit into the short packed format
+        list.add(PlayerTrackerStorageTest.legacyEntry("ipos", new BlockPos(15, 300, 15), 1, 3));
+        list.add(PlayerTrackerStorageTest.legacyEntry("ipos", new BlockPos(8, 4095, 1), 0, -1));
+
+        final PlayerTrackerStorage storage = new PlayerTrackerStorage();
+        storage.readLegacy(list);
+
+        PlayerTrackerStorageTest.assertTracked(storage, 3, 70, 12, 5, 7);
+        PlayerTrackerStorageTest.assertTracked(storage, 15, 300, 15, 1, 3);
+        PlayerTrackerStorageTest.assertTracked(storage, 8, 4095, 1, 0, -1);
+        Assertions.assertEquals(PlayerTrackerStorage.UNTRACKED, storage.get(15, 44, 15));
+    }
+
+    @Test
+    void testSectionRoundTrip() {
+        final PlayerTrackerStorage storage = new PlayerTrackerStorage();
+        storage.set(0, 0, 0, PlayerTrackerStorage.pack(0, 0));
+        storage.set(15, 15, 15, PlayerTrackerStorage.pack(1, -1));
+        storage.set(4, 16, 9, PlayerTrackerStorage.pack(-1, 2));
+        storage.set(7, 255, 3, PlayerTrackerStorage.pack(Integer.MAX_VALUE, 3));
+        storage.set(2, -5, 11, PlayerTrackerStorage.pack(4, 5));
+        storage.set(1, 100, 1, PlayerTrackerStorage.pack(6, 6));
+        storage.remove(1, 100, 1);
+
+        final PlayerTrackerStorage read = new PlayerTrackerStorage();
+        read.read(storage.write());
+
+        PlayerTrackerStorageTest.assertTracked(read, 0, 0, 0, 0, 0);
+        PlayerTrackerStorageTest.assertTracked(read, 15, 15, 15, 1, -1);
+        PlayerTrackerStorageTest.assertTracked(read, 4, 16, 9, -1, 2);
+        PlayerTrackerStorageTest.assertTracked(read, 7, 255, 3, Integer.MAX_VALUE, 3);
+        PlayerTrackerStorageTest.assertTracked(read, 2, -5, 11, 4, 5);
+        Assertions.assertEquals(PlayerTrackerStorage.UNTRACKED, read.get(1, 100, 1));
+        Assertions.assertEquals(PlayerTrackerStorage.UNTRACKED, read.get(0, 1, 0));
+        // One compound per non-empty section
+        Assertions.assertEquals(4, storage.write().size());
+    }
+
+    @Test
+    void testLegacyToSectionRoundTrip() {
+        final ListTag list = new ListTag();
+        list.add(PlayerTrackerStorageTest.legacyEntry("pos", new BlockPos(3, 70, 12), 5, 7));
+        list.add(PlayerTrackerStorageTest.legacyEntry("ipos", new BlockPos(9, 300, 6), 8, -1));
+
+        final PlayerTrackerStorage legacy = new PlayerTrackerStorage();
+        legacy.readLegacy(list);
+        final PlayerTrackerStorage read = new PlayerTrackerStorage();
+        read.read(legacy.write());
+
+        PlayerTrackerStorageTest.assertTracked(read, 3, 70, 12, 5, 7);
+        PlayerTrackerStorageTest.assertTracked(read, 9, 300, 6, 8, -1);
+    }
+
+    @Test
+    void testRemovingLastPositionEmptiesStorage() {
+        final PlayerTrackerStorage storage = new PlayerTrackerStorage();
+        storage.set(1, 2, 3, PlayerTrackerStorage.pack(1, 1));
+        Assertions.assertFalse(storage.isEmpty());
+        storage.set(1, 2, 3, PlayerTrackerStorage.UNTRACKED);
+        Assertions.assertTrue(storage.isEmpty());
+        Assertions.assertTrue(storage.write().isEmpty());
+    }
+}
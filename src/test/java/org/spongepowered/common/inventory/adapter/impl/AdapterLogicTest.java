@@ -0,0 +1,225 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.adapter.impl;
+
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
+import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
+import org.spongepowered.common.inventory.lens.impl.slot.BasicSlotLens;
+import org.spongepowered.common.inventory.lens.slots.SlotLens;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+final class AdapterLogicTest {
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.bootStrap();
+    }
+
+    /**
+     * A fabric over a plain array of stacks.
+     */
+    private static final class TestFabric implements Fabric {
+
+        final ItemStack[] stacks;
+        int dirty;
+
+        TestFabric(final ItemStack... stacks) {
+            this.stacks = stacks;
+        }
+
+        @Override
+        public Collection<InventoryBridge> fabric$allInventories() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public InventoryBridge fabric$get(final int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ItemStack fabric$getStack(final int index) {
+            return this.stacks[index];
+        }
+
+        @Override
+        public void fabric$setStack(final int index, final ItemStack stack) {
+            this.stacks[index] = stack;
+        }
+
+        @Override
+        public int fabric$getMaxStackSize() {
+            return 64;
+        }
+
+        @Override
+        public int fabric$getSize() {
+            return this.stacks.length;
+        }
+
+        @Override
+        public void fabric$clear() {
+            for (int i = 0; i < this.stacks.length; i++) {
+                this.stacks[i] = ItemStack.EMPTY;
+            }
+        }
+
+        @Override
+        public void fabric$markDirty() {
+            this.dirty++;
+        }
+    }
+
+    /**
+     * A lens spanning one slot per index of the fabric.
+     */
+    private static final class RowLens extends AbstractLens {
+
+        RowLens(final int size) {
+            super(0, size, Inventory.class);
+            for (int i = 0; i < size; i++) {
+                this.addSpanningChild(new BasicSlotLens(i));
+            }
+        }
+
+        @Override
+        public Inventory getAdapter(final Fabric fabric, final Inventory parent) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static TestFabric fabric() {
+        return new TestFabric(new ItemStack(Items.STONE, 10), ItemStack.EMPTY, new ItemStack(Items.DIRT, 5), new ItemStack(Items.STONE, 64));
+    }
+
+    /**
+     * Counts through the per ordinal lookup of the lens.
+     */
+    private static int countPerSlot(final Fabric fabric, final Lens lens, final net.minecraft.world.item.Item item) {
+        int count = 0;
+        for (int ord = 0; ord < lens.slotCount(); ord++) {
+            final ItemStack stack = lens.getStack(fabric, ord);
+            if (!stack.isEmpty() && (item == null || stack.getItem() == item)) {
+                count += stack.getCount();
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void testCountItemsMatchesPerSlotQuery() {
+        final TestFabric fabric = AdapterLogicTest.fabric();
+        final Lens lens = new RowLens(fabric.stacks.length);
+
+        Assertions.assertEquals(74, AdapterLogic.countItems(fabric, lens, stack -> stack.getItem() == Items.STONE));
+        Assertions.assertEquals(AdapterLogicTest.countPerSlot(fabric, lens, Items.STONE),
+                AdapterLogic.countItems(fabric, lens, stack -> stack.getItem() == Items.STONE));
+        Assertions.assertEquals(AdapterLogicTest.countPerSlot(fabric, lens, Items.DIRT),
+                AdapterLogic.countItems(fabric, lens, stack -> stack.getItem() == Items.DIRT));
+        Assertions.assertEquals(0, AdapterLogic.countItems(fabric, lens, stack -> stack.getItem() == Items.DIAMOND));
+        Assertions.assertEquals(AdapterLogicTest.countPerSlot(fabric, lens, null), AdapterLogic.countQuantity(fabric, lens));
+        Assertions.assertEquals(1, AdapterLogic.countFreeCapacity(fabric, lens));
+    }
+
+    @Test
+    void testIndexOfItem() {
+        final TestFabric fabric = AdapterLogicTest.fabric();
+        final Lens lens = new RowLens(fabric.stacks.length);
+
+        Assertions.assertEquals(0, AdapterLogic.indexOfItem(fabric, lens, stack -> true));
+        Assertions.assertEquals(2, AdapterLogic.indexOfItem(fabric, lens, stack -> stack.getItem() == Items.DIRT));
+        Assertions.assertEquals(3, AdapterLogic.indexOfItem(fabric, lens, stack -> stack.getCount() == 64));
+        Assertions.assertEquals(-1, AdapterLogic.indexOfItem(fabric, lens, stack -> stack.getItem() == Items.DIAMOND));
+
+        final TestFabric empty = new TestFabric(ItemStack.EMPTY, ItemStack.EMPTY);
+        Assertions.assertEquals(-1, AdapterLogic.indexOfItem(empty, new RowLens(2), stack -> true));
+    }
+
+    @Test
+    void testRemoveItemsAcrossSlots() {
+        final TestFabric fabric = AdapterLogicTest.fabric();
+        final Lens lens = new RowLens(fabric.stacks.length);
+        final ItemStack first = fabric.stacks[0];
+        final ItemStack last = fabric.stacks[3];
+        final List<SlotLens> changed = new ArrayList<>();
+        final List<Integer> before = new ArrayList<>();
+
+        final int removed = AdapterLogic.removeItems(fabric, lens, stack -> stack.getItem() == Items.STONE, 20, (slot, stack, newStack) -> {
+            changed.add(slot);
+            before.add(stack.getCount());
+            Assertions.assertSame(newStack, slot.getStack(fabric));
+        });
+
+        Assertions.assertEquals(20, removed);
+        Assertions.assertTrue(fabric.stacks[0].isEmpty());
+        Assertions.assertEquals(54, fabric.stacks[3].getCount());
+        Assertions.assertEquals(5, fabric.stacks[2].getCount());
+        Assertions.assertEquals(54, AdapterLogicTest.countPerSlot(fabric, lens, Items.STONE));
+        // The stacks handed to the listener are left as they were
+        Assertions.assertEquals(10, first.getCount());
+        Assertions.assertEquals(64, last.getCount());
+        Assertions.assertEquals(2, changed.size());
+        Assertions.assertEquals(0, changed.get(0).getOrdinal(fabric));
+        Assertions.assertEquals(3, changed.get(1).getOrdinal(fabric));
+        Assertions.assertEquals(10, (int) before.get(0));
+        Assertions.assertEquals(64, (int) before.get(1));
+        Assertions.assertEquals(1, fabric.dirty);
+    }
+
+    @Test
+    void testRemoveItemsStopsWhenExhausted() {
+        final TestFabric fabric = AdapterLogicTest.fabric();
+        final Lens lens = new RowLens(fabric.stacks.length);
+
+        Assertions.assertEquals(5, AdapterLogic.removeItems(fabric, lens, stack -> stack.getItem() == Items.DIRT, 100, null));
+        Assertions.assertTrue(fabric.stacks[2].isEmpty());
+        Assertions.assertEquals(74, AdapterLogic.countQuantity(fabric, lens));
+        Assertions.assertEquals(1, fabric.dirty);
+    }
+
+    @Test
+    void testRemoveNothing() {
+        final TestFabric fabric = AdapterLogicTest.fabric();
+        final Lens lens = new RowLens(fabric.stacks.length);
+
+        Assertions.assertEquals(0, AdapterLogic.removeItems(fabric, lens, stack -> stack.getItem() == Items.DIAMOND, 10, null));
+        Assertions.assertEquals(0, AdapterLogic.removeItems(fabric, lens, stack -> true, 0, null));
+        Assertions.assertEquals(79, AdapterLogic.countQuantity(fabric, lens));
+        Assertions.assertEquals(0, fabric.dirty);
+    }
+}
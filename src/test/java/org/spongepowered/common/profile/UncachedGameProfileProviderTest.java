@@ -0,0 +1,353 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.authlib.Agent;
+import com.mojang.authlib.GameProfileRepository;
+import com.mojang.authlib.ProfileLookupCallback;
+import com.mojang.util.UUIDTypeAdapter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.ProfileNotFoundException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+final class UncachedGameProfileProviderTest {
+
+    private static final Gson GSON = new Gson();
+
+    private final Map<String, UUID> profiles = new HashMap<>();
+    private final List<List<String>> bulkRequests = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch bulkReceived = new CountDownLatch(1);
+    private volatile CountDownLatch bulkRelease = new CountDownLatch(0);
+
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private String host;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        for (final String name : Arrays.asList("Alice", "Bob", "Carol")) {
+            this.profiles.put(name.toLowerCase(Locale.ROOT), UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)));
+        }
+        this.serverExecutor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(this.serverExecutor);
+        this.server.createContext("/profiles/minecraft", this::handleBulk);
+        this.server.createContext("/user/profiles/minecraft/", this::handleAt);
+        this.server.start();
+        this.host = "http://" + this.server.getAddress().getHostString() + ":" + this.server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        this.server.stop(0);
+        this.serverExecutor.shutdownNow();
+    }
+
+    private static JsonObject profileJson(final String name, final UUID uniqueId) {
+        final JsonObject json = new JsonObject();
+        json.addProperty("id", UUIDTypeAdapter.fromUUID(uniqueId));
+        json.addProperty("name", name);
+        return json;
+    }
+
+    private String canonicalName(final String name) {
+        for (final String known : Arrays.asList("Alice", "Bob", "Carol")) {
+            if (known.equalsIgnoreCase(name)) {
+                return known;
+            }
+        }
+        return name;
+    }
+
+    private static void respond(final HttpExchange exchange, final int code, final @Nullable JsonElement json) throws IOException {
+        if (json == null) {
+            exchange.sendResponseHeaders(code, -1);
+            exchange.close();
+            return;
+        }
+        final byte[] body = UncachedGameProfileProviderTest.GSON.toJson(json).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, body.length);
+        try (final OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * Mirrors the bulk names endpoint, which answers with the profiles that
+     * exist and leaves out the others.
+     */
+    private void handleBulk(final HttpExchange exchange) throws IOException {
+        final JsonArray names = UncachedGameProfileProviderTest.GSON.fromJson(
+                new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8), JsonArray.class);
+        final List<String> requested = new ArrayList<>();
+        final JsonArray found = new JsonArray();
+        for (final JsonElement element : names) {
+            final String name = element.getAsString();
+            requested.add(name);
+            final UUID uniqueId = this.profiles.get(name.toLowerCase(Locale.ROOT));
+            if (uniqueId != null) {
+                found.add(UncachedGameProfileProviderTest.profileJson(this.canonicalName(name), uniqueId));
+            }
+        }
+        this.bulkRequests.add(requested);
+        this.bulkReceived.countDown();
+        try {
+            this.bulkRelease.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        UncachedGameProfileProviderTest.respond(exchange, 200, found);
+    }
+
+    private void handleAt(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        final String name = path.substring(path.lastIndexOf('/') + 1);
+        final UUID uniqueId = this.profiles.get(name.toLowerCase(Locale.ROOT));
+        if (uniqueId == null) {
+            UncachedGameProfileProviderTest.respond(exchange, 204, null);
+            return;
+        }
+        final JsonObject json = UncachedGameProfileProviderTest.profileJson(this.canonicalName(name), uniqueId);
+        json.add("properties", new JsonArray());
+        UncachedGameProfileProviderTest.respond(exchange, 200, json);
+    }
+
+    /**
+     * A repository which talks to the local server the same way the
+     * Yggdrasil repository talks to the Mojang API.
+     */
+    private final class HttpProfileRepository implements GameProfileRepository {
+
+        @Override
+        public void findProfilesByNames(final String[] names, final Agent agent, final ProfileLookupCallback callback) {
+            final JsonArray found;
+            try {
+                final HttpURLConnection connection = (HttpURLConnection) new URL(UncachedGameProfileProviderTest.this.host
+                        + "/profiles/" + agent.getName().toLowerCase(Locale.ROOT)).openConnection();
+                connection.setRequestMethod("POST");
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/json");
+                try (final OutputStream output = connection.getOutputStream()) {
+                    output.write(UncachedGameProfileProviderTest.GSON.toJson(names).getBytes(StandardCharsets.UTF_8));
+                }
+                try (final InputStreamReader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+                    found = UncachedGameProfileProviderTest.GSON.fromJson(reader, JsonArray.class);
+                }
+            } catch (final IOException e) {
+                for (final String name : names) {
+                    callback.onProfileLookupFailed(new com.mojang.authlib.GameProfile(null, name), e);
+                }
+                return;
+            }
+            final Set<String> missing = new HashSet<>();
+            for (final String name : names) {
+                missing.add(name.toLowerCase(Locale.ROOT));
+            }
+            for (final JsonElement element : found) {
+                final JsonObject json = element.getAsJsonObject();
+                final String name = json.get("name").getAsString();
+                missing.remove(name.toLowerCase(Locale.ROOT));
+                callback.onProfileLookupSucceeded(new com.mojang.authlib.GameProfile(
+                        UUIDTypeAdapter.fromString(json.get("id").getAsString()), name));
+            }
+            for (final String name : missing) {
+                callback.onProfileLookupFailed(new com.mojang.authlib.GameProfile(null, name),
+                        new com.mojang.authlib.yggdrasil.ProfileNotFoundException("Server did not find the requested profile"));
+            }
+        }
+    }
+
+    private UncachedGameProfileProvider provider() {
+        final GameProfileRepository repository = new HttpProfileRepository();
+        return new UncachedGameProfileProvider(() -> repository, () -> {
+            throw new UnsupportedOperationException();
+        }, this.host, 4);
+    }
+
+    private static Throwable failure(final CompletableFuture<?> future) {
+        return Assertions.assertThrows(CompletionException.class, future::join).getCause();
+    }
+
+    @Test
+    void testDistinctNamesAreBatched() {
+        final UncachedGameProfileProvider provider = this.provider();
+
+        final Map<String, GameProfile> result = provider.basicProfiles(Arrays.asList("Alice", "Bob", "Carol", "Nobody")).join();
+
+        Assertions.assertEquals(1, this.bulkRequests.size());
+        Assertions.assertEquals(Arrays.asList("alice", "bob", "carol", "nobody"), this.bulkRequests.get(0));
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(this.profiles.get("bob"), result.get("Bob").uniqueId());
+        Assertions.assertFalse(result.containsKey("Nobody"));
+        provider.shutdown();
+    }
+
+    @Test
+    void testBatchesAreLimitedInSize() {
+        final UncachedGameProfileProvider provider = this.provider();
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < GameProfileNameBatcher.MAX_BATCH_SIZE * 2 + 5; i++) {
+            names.add("player" + i);
+        }
+
+        Assertions.assertTrue(provider.basicProfiles(names).join().isEmpty());
+
+        // Full batches are sent right away, so they may reach the server in any order
+        final List<String> requested = new ArrayList<>();
+        for (final List<String> request : this.bulkRequests) {
+            Assertions.assertTrue(request.size() <= GameProfileNameBatcher.MAX_BATCH_SIZE);
+            requested.addAll(request);
+        }
+        Assertions.assertEquals(names.size(), requested.size());
+        Assertions.assertEquals(new HashSet<>(names), new HashSet<>(requested));
+        provider.shutdown();
+    }
+
+    @Test
+    void testConcurrentLookupsAreCoalesced() throws Exception {
+        final UncachedGameProfileProvider provider = this.provider();
+        this.bulkRelease = new CountDownLatch(1);
+
+        final CompletableFuture<GameProfile> first = provider.basicProfile("Alice");
+        Assertions.assertTrue(this.bulkReceived.await(10, TimeUnit.SECONDS));
+
+        // The request is in flight now, the other lookups have to wait for it
+        final ExecutorService callers = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<CompletableFuture<CompletableFuture<GameProfile>>> lookups = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final String name = i % 2 == 0 ? "alice" : "ALICE";
+            lookups.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    throw new CompletionException(e);
+                }
+                return provider.basicProfile(name);
+            }, callers));
+        }
+        start.countDown();
+        final List<CompletableFuture<GameProfile>> results = new ArrayList<>();
+        for (final CompletableFuture<CompletableFuture<GameProfile>> lookup : lookups) {
+            final CompletableFuture<GameProfile> result = lookup.join();
+            Assertions.assertFalse(result.isDone());
+            results.add(result);
+        }
+        this.bulkRelease.countDown();
+
+        Assertions.assertEquals(this.profiles.get("alice"), first.join().uniqueId());
+        for (final CompletableFuture<GameProfile> result : results) {
+            Assertions.assertEquals(this.profiles.get("alice"), result.join().uniqueId());
+        }
+        Assertions.assertEquals(1, this.bulkRequests.size());
+        Assertions.assertEquals(Collections.singletonList("alice"), this.bulkRequests.get(0));
+        callers.shutdown();
+        provider.shutdown();
+    }
+
+    @Test
+    void testMissingNamesAreCachedNegatively() {
+        final UncachedGameProfileProvider provider = this.provider();
+
+        Assertions.assertTrue(UncachedGameProfileProviderTest.failure(provider.basicProfile("Nobody")) instanceof ProfileNotFoundException);
+        Assertions.assertEquals(1, this.bulkRequests.size());
+
+        // Known to be missing, answered without asking the server again
+        final CompletableFuture<GameProfile> again = provider.basicProfile("NOBODY");
+        Assertions.assertTrue(again.isCompletedExceptionally());
+        Assertions.assertTrue(UncachedGameProfileProviderTest.failure(again) instanceof ProfileNotFoundException);
+        Assertions.assertEquals(1, this.bulkRequests.size());
+
+        // Existing names are not cached negatively
+        Assertions.assertEquals(this.profiles.get("bob"), provider.basicProfile("Bob").join().uniqueId());
+        Assertions.assertEquals(2, this.bulkRequests.size());
+        provider.shutdown();
+    }
+
+    @Test
+    void testLookupAtTime() {
+        final UncachedGameProfileProvider provider = this.provider();
+        final Instant time = Instant.ofEpochSecond(1_500_000_000L);
+
+        final GameProfile profile = provider.basicProfile("Carol", time).join();
+        Assertions.assertEquals(this.profiles.get("carol"), profile.uniqueId());
+        Assertions.assertEquals("Carol", profile.name().get());
+        Assertions.assertTrue(UncachedGameProfileProviderTest.failure(provider.basicProfile("Nobody", time)) instanceof ProfileNotFoundException);
+
+        final Map<String, GameProfile> result = provider.basicProfiles(Arrays.asList("Alice", "Nobody"), time).join();
+        Assertions.assertEquals(Collections.singleton("Alice"), result.keySet());
+        Assertions.assertTrue(this.bulkRequests.isEmpty());
+        provider.shutdown();
+    }
+
+    @Test
+    void testLookupAfterShutdownFails() {
+        final UncachedGameProfileProvider provider = this.provider();
+        provider.shutdown();
+
+        Assertions.assertTrue(UncachedGameProfileProviderTest.failure(provider.basicProfile("Alice")) instanceof RejectedExecutionException);
+        Assertions.assertTrue(UncachedGameProfileProviderTest.failure(provider.basicProfile("Alice", Instant.now()))
+                instanceof RejectedExecutionException);
+        Assertions.assertTrue(this.bulkRequests.isEmpty());
+    }
+}
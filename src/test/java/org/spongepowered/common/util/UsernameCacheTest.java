@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+final class UsernameCacheTest {
+
+    @Test
+    void testCaseInsensitiveLookup() {
+        final UsernameCache cache = new UsernameCache(Paths.get("usernamecache.json"));
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        cache.setUsername(first, "Notch");
+        Assertions.assertEquals(first, cache.getLastKnownUUID("notch"));
+        Assertions.assertEquals(first, cache.getLastKnownUUID("NOTCH"));
+
+        // Renamed, the old name must no longer resolve
+        cache.setUsername(first, "jeb_");
+        Assertions.assertNull(cache.getLastKnownUUID("Notch"));
+        Assertions.assertEquals(first, cache.getLastKnownUUID("Jeb_"));
+
+        // Name taken over by another account
+        cache.setUsername(second, "JEB_");
+        Assertions.assertEquals(second, cache.getLastKnownUUID("jeb_"));
+        Assertions.assertTrue(cache.removeUsername(first));
+        Assertions.assertEquals(second, cache.getLastKnownUUID("jeb_"));
+        Assertions.assertFalse(cache.removeUsername(first));
+    }
+
+    @Test
+    void testSharedNameFallsBackToRemainingHolder() {
+        final UsernameCache cache = new UsernameCache(Paths.get("usernamecache.json"));
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        final UUID third = UUID.randomUUID();
+
+        cache.setUsername(first, "Dinnerbone");
+        cache.setUsername(second, "dinnerbone");
+        cache.setUsername(third, "DINNERBONE");
+        Assertions.assertEquals(third, cache.getLastKnownUUID("Dinnerbone"));
+
+        // The newest holder renames, the name still belongs to one of the others
+        cache.setUsername(third, "Grumm");
+        final UUID remaining = cache.getLastKnownUUID("dinnerbone");
+        Assertions.assertTrue(first.equals(remaining) || second.equals(remaining));
+        Assertions.assertEquals(third, cache.getLastKnownUUID("grumm"));
+
+        // Once only one holder is left it has to be that one
+        Assertions.assertTrue(cache.removeUsername(remaining));
+        final UUID last = first.equals(remaining) ? second : first;
+        Assertions.assertEquals(last, cache.getLastKnownUUID("Dinnerbone"));
+
+        // Removing an older holder keeps the current one
+        cache.setUsername(third, "dinnerbone");
+        Assertions.assertTrue(cache.removeUsername(last));
+        Assertions.assertEquals(third, cache.getLastKnownUUID("Dinnerbone"));
+
+        cache.setUsername(third, "Grumm");
+        Assertions.assertNull(cache.getLastKnownUUID("Dinnerbone"));
+    }
+
+    @Test
+    void testJournalRoundTrip(@TempDir final Path directory) {
+        final Path file = directory.resolve("usernamecache.json");
+        final UsernameCache cache = new UsernameCache(file);
+        final UUID kept = UUID.randomUUID();
+        final UUID removed = UUID.randomUUID();
+        cache.setUsername(kept, "Kept");
+        cache.setUsername(removed, "Removed");
+        cache.removeUsername(removed);
+        cache.writeJournal();
+
+        Assertions.assertFalse(Files.exists(file));
+        final UsernameCache loaded = new UsernameCache(file);
+        loaded.load();
+        Assertions.assertEquals("Kept", loaded.getLastKnownUsername(kept));
+        Assertions.assertEquals(kept, loaded.getLastKnownUUID("kept"));
+        Assertions.assertNull(loaded.getLastKnownUsername(removed));
+    }
+
+    @Test
+    void testCompaction(@TempDir final Path directory) {
+        final Path file = directory.resolve("usernamecache.json");
+        final UsernameCache cache = new UsernameCache(file);
+        final UUID[] uniqueIds = new UUID[UsernameCache.COMPACTION_MIN_ENTRIES];
+        for (int i = 0; i < uniqueIds.length; i++) {
+            uniqueIds[i] = UUID.randomUUID();
+            cache.setUsername(uniqueIds[i], "Player" + i);
+        }
+        cache.writeJournal();
+
+        Assertions.assertTrue(Files.exists(file));
+        Assertions.assertFalse(Files.exists(directory.resolve("usernamecache.json.journal")));
+
+        cache.setUsername(uniqueIds[0], "Renamed");
+        cache.writeJournal();
+
+        final UsernameCache loaded = new UsernameCache(file);
+        loaded.load();
+        Assertions.assertEquals(uniqueIds.length, loaded.getAll().size());
+        Assertions.assertEquals(uniqueIds[0], loaded.getLastKnownUUID("renamed"));
+        Assertions.assertEquals(uniqueIds[42], loaded.getLastKnownUUID("player42"));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.region;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.common.util.SpongeAABB;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+final class SpongeRegionIndexTest {
+
+    private final SpongeRegionIndex index = new SpongeRegionIndex();
+    private final List<String> events = new ArrayList<>();
+    private final ResourceKey overworld = SpongeRegionIndexTest.stub(ResourceKey.class, "overworld");
+    private final ResourceKey nether = SpongeRegionIndexTest.stub(ResourceKey.class, "nether");
+    private final ServerPlayer player = SpongeRegionIndexTest.stub(ServerPlayer.class, "player");
+    private final UUID uniqueId = UUID.randomUUID();
+
+    /**
+     * Creates an instance only usable for its identity.
+     */
+    private static <T> T stub(final Class<T> type, final String name) {
+        return type.cast(Proxy.newProxyInstance(SpongeRegionIndexTest.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return name;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }));
+    }
+
+    private SpongeRegionIndex.Region register(final String name, final ResourceKey world, final double minX, final double maxX) {
+        return this.index.register(SpongeRegionIndexTest.stub(ResourceKey.class, name), world,
+                new SpongeAABB(new Vector3d(minX, 0, minX), new Vector3d(maxX, 256, maxX)));
+    }
+
+    @BeforeEach
+    void addListener() {
+        this.index.addListener(new SpongeRegionIndex.Listener() {
+            @Override
+            public void onEnter(final ServerPlayer player, final SpongeRegionIndex.Region region) {
+                SpongeRegionIndexTest.this.events.add("enter " + region.key());
+            }
+
+            @Override
+            public void onLeave(final ServerPlayer player, final SpongeRegionIndex.Region region) {
+                SpongeRegionIndexTest.this.events.add("leave " + region.key());
+            }
+        });
+    }
+
+    @Test
+    void testTeleportLeavesAndEnters() {
+        this.register("spawn", this.overworld, -16, 16);
+        this.register("far", this.overworld, 10_000, 10_100);
+
+        this.index.update(this.player, this.uniqueId, this.overworld, 0, 64, 0);
+        Assertions.assertEquals(Arrays.asList("enter spawn"), this.events);
+
+        // A teleport skips every block in between
+        this.index.update(this.player, this.uniqueId, this.overworld, 10_050, 64, 10_050);
+        Assertions.assertEquals(Arrays.asList("enter spawn", "leave spawn", "enter far"), this.events);
+        Assertions.assertEquals(1, this.index.regionsOf(this.uniqueId).size());
+    }
+
+    @Test
+    void testWorldChangeLeavesAndEnters() {
+        this.register("overworld spawn", this.overworld, -16, 16);
+        this.register("nether spawn", this.nether, -16, 16);
+
+        this.index.update(this.player, this.uniqueId, this.overworld, 0, 64, 0);
+        // Same block, different world
+        this.index.update(this.player, this.uniqueId, this.nether, 0, 64, 0);
+        Assertions.assertEquals(Arrays.asList("enter overworld spawn", "leave overworld spawn", "enter nether spawn"), this.events);
+    }
+
+    @Test
+    void testSameBlockIsNotReevaluated() {
+        this.register("spawn", this.overworld, -16, 16);
+
+        this.index.update(this.player, this.uniqueId, this.overworld, 0.2, 64, 0.2);
+        this.index.update(this.player, this.uniqueId, this.overworld, 0.8, 64.5, 0.8);
+        Assertions.assertEquals(Arrays.asList("enter spawn"), this.events);
+    }
+
+    @Test
+    void testUnregisterAndClear() {
+        this.register("spawn", this.overworld, -16, 16);
+        this.index.update(this.player, this.uniqueId, this.overworld, 0, 64, 0);
+
+        this.index.clear();
+        Assertions.assertTrue(this.index.regions().isEmpty());
+        Assertions.assertTrue(this.index.regionsOf(this.uniqueId).isEmpty());
+
+        final SpongeRegionIndex.Region region = this.register("spawn", this.overworld, -16, 16);
+        Assertions.assertTrue(this.index.unregister(region.key()));
+        // Listeners were dropped with everything else
+        Assertions.assertEquals(Arrays.asList("enter spawn"), this.events);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+
+final class WorldDirectoryOperationsTest {
+
+    private final WorldDirectoryOperations operations = new WorldDirectoryOperations();
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static Path createWorld(final Path directory) throws IOException {
+        final Path world = directory.resolve("world");
+        WorldDirectoryOperationsTest.write(world.resolve("level.dat"), "level");
+        WorldDirectoryOperationsTest.write(world.resolve("level.dat_old"), "backup");
+        WorldDirectoryOperationsTest.write(world.resolve("region").resolve("r.0.0.mca"), "region");
+        WorldDirectoryOperationsTest.write(world.resolve("dimensions").resolve("nested").resolve("level.dat"), "nested");
+        return world;
+    }
+
+    @Test
+    void testCopyDirectory(@TempDir final Path directory) throws IOException {
+        final Path world = WorldDirectoryOperationsTest.createWorld(directory);
+        final Path copy = directory.resolve("copy");
+
+        this.operations.copyDirectory(world, copy, dir -> dir.getFileName().toString().equals("dimensions"),
+                file -> file.getFileName().toString().equals("level.dat_old"), "Copying test world").join();
+
+        Assertions.assertEquals("level", WorldDirectoryOperationsTest.read(copy.resolve("level.dat")));
+        Assertions.assertEquals("region", WorldDirectoryOperationsTest.read(copy.resolve("region").resolve("r.0.0.mca")));
+        Assertions.assertFalse(Files.exists(copy.resolve("level.dat_old")));
+        Assertions.assertFalse(Files.exists(copy.resolve("dimensions")));
+        // The source is left untouched
+        Assertions.assertEquals("backup", WorldDirectoryOperationsTest.read(world.resolve("level.dat_old")));
+    }
+
+    @Test
+    void testMoveDirectory(@TempDir final Path directory) throws IOException {
+        final Path world = WorldDirectoryOperationsTest.createWorld(directory);
+        final Path moved = directory.resolve("moved").resolve("world");
+
+        this.operations.moveDirectory(world, moved, "Moving test world").join();
+
+        Assertions.assertFalse(Files.exists(world));
+        Assertions.assertEquals("level", WorldDirectoryOperationsTest.read(moved.resolve("level.dat")));
+        Assertions.assertEquals("nested", WorldDirectoryOperationsTest.read(moved.resolve("dimensions").resolve("nested").resolve("level.dat")));
+    }
+
+    @Test
+    void testMoveDirectoryOntoExistingTarget(@TempDir final Path directory) throws IOException {
+        final Path world = WorldDirectoryOperationsTest.createWorld(directory);
+        final Path existing = directory.resolve("existing");
+        WorldDirectoryOperationsTest.write(existing.resolve("level.dat"), "existing");
+
+        final CompletionException notEmpty = Assertions.assertThrows(CompletionException.class,
+                () -> this.operations.moveDirectory(world, existing, "Moving test world").join());
+        Assertions.assertTrue(notEmpty.getCause() instanceof DirectoryNotEmptyException);
+
+        final Path file = directory.resolve("file");
+        WorldDirectoryOperationsTest.write(file, "file");
+        final CompletionException isFile = Assertions.assertThrows(CompletionException.class,
+                () -> this.operations.moveDirectory(world, file, "Moving test world").join());
+        Assertions.assertTrue(isFile.getCause() instanceof FileAlreadyExistsException);
+
+        // Neither the source nor the targets are touched
+        Assertions.assertEquals("level", WorldDirectoryOperationsTest.read(world.resolve("level.dat")));
+        Assertions.assertEquals("existing", WorldDirectoryOperationsTest.read(existing.resolve("level.dat")));
+        Assertions.assertFalse(Files.exists(existing.resolve("region")));
+        Assertions.assertEquals("file", WorldDirectoryOperationsTest.read(file));
+
+        // An empty target directory is replaced
+        final Path empty = Files.createDirectories(directory.resolve("empty"));
+        this.operations.moveDirectory(world, empty, "Moving test world").join();
+        Assertions.assertFalse(Files.exists(world));
+        Assertions.assertEquals("level", WorldDirectoryOperationsTest.read(empty.resolve("level.dat")));
+    }
+
+    @Test
+    void testDeleteDirectory(@TempDir final Path directory) throws IOException {
+        final Path world = WorldDirectoryOperationsTest.createWorld(directory);
+
+        this.operations.deleteDirectory(world, "Deleting test world").join();
+
+        Assertions.assertFalse(Files.exists(world));
+        Assertions.assertTrue(Files.exists(directory));
+        // Deleting a missing directory is not an error
+        this.operations.deleteDirectory(world, "Deleting test world").join();
+    }
+}
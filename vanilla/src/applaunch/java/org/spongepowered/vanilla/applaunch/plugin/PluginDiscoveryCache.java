@@ -0,0 +1,178 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.applaunch.plugin;
+
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which jars a language service found no plugin candidates in,
+ * keyed on the jar path, modification time and size, so that unchanged
+ * non-plugin jars (such as libraries placed within the plugin directories)
+ * are not scanned again on the next start.
+ */
+final class PluginDiscoveryCache {
+
+    private static final char SEPARATOR = '\t';
+
+    private final Path file;
+    private final Logger logger;
+    private final Map<String, Entry> previous = new ConcurrentHashMap<>();
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+
+    PluginDiscoveryCache(final Path file, final Logger logger) {
+        this.file = file;
+        this.logger = logger;
+    }
+
+    void load() {
+        if (Files.notExists(this.file)) {
+            return;
+        }
+        try (final BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] parts = line.split(String.valueOf(PluginDiscoveryCache.SEPARATOR), 4);
+                if (parts.length != 4) {
+                    continue;
+                }
+                final Entry entry = new Entry(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                this.previous.put(PluginDiscoveryCache.key(parts[3], parts[0]), entry);
+            }
+        } catch (final IOException | NumberFormatException e) {
+            this.logger.warn("Failed to read the plugin discovery cache, all plugin resources will be scanned", e);
+            this.previous.clear();
+        }
+    }
+
+    /**
+     * Gets whether the given language service previously found no
+     * candidates within the given, unchanged, jar.
+     *
+     * @param languageService The language service name
+     * @param path The jar path
+     * @return If the jar can be skipped
+     */
+    boolean isKnownEmpty(final String languageService, final Path path) {
+        final String key = PluginDiscoveryCache.key(languageService, path.toAbsolutePath().toString());
+        final Entry cached = this.previous.get(key);
+        if (cached == null) {
+            return false;
+        }
+        final Entry entry = PluginDiscoveryCache.read(path);
+        if (entry == null || !entry.equals(cached)) {
+            return false;
+        }
+        this.current.put(key, entry);
+        return true;
+    }
+
+    void markEmpty(final String languageService, final Path path) {
+        final Entry entry = PluginDiscoveryCache.read(path);
+        if (entry != null) {
+            this.current.put(PluginDiscoveryCache.key(languageService, path.toAbsolutePath().toString()), entry);
+        }
+    }
+
+    void save() {
+        if (this.current.equals(this.previous)) {
+            return;
+        }
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path tmp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+            try (final BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (final Map.Entry<String, Entry> entry : this.current.entrySet()) {
+                    final int split = entry.getKey().indexOf(PluginDiscoveryCache.SEPARATOR);
+                    writer.write(entry.getKey().substring(split + 1));
+                    writer.write(PluginDiscoveryCache.SEPARATOR);
+                    writer.write(Long.toString(entry.getValue().modified));
+                    writer.write(PluginDiscoveryCache.SEPARATOR);
+                    writer.write(Long.toString(entry.getValue().size));
+                    writer.write(PluginDiscoveryCache.SEPARATOR);
+                    writer.write(entry.getKey().substring(0, split));
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, this.file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            this.logger.warn("Failed to save the plugin discovery cache", e);
+        }
+    }
+
+    private static String key(final String languageService, final String path) {
+        return languageService + PluginDiscoveryCache.SEPARATOR + path;
+    }
+
+    private static Entry read(final Path path) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new Entry(attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private static final class Entry {
+
+        final long modified;
+        final long size;
+
+        Entry(final long modified, final long size) {
+            this.modified = modified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry that = (Entry) o;
+            return this.modified == that.modified && this.size == that.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(this.modified) + Long.hashCode(this.size);
+        }
+    }
+}
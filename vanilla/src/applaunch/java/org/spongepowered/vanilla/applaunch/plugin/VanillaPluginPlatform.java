@@ -24,6 +24,7 @@
  */
 package org.spongepowered.vanilla.applaunch.plugin;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.common.applaunch.plugin.PluginPlatform;
 import org.spongepowered.plugin.PluginCandidate;
@@ -32,22 +33,31 @@
 import org.spongepowered.plugin.PluginLanguageService;
 import org.spongepowered.plugin.PluginResource;
 import org.spongepowered.plugin.PluginResourceLocatorService;
+import org.spongepowered.plugin.jvm.locator.JVMPluginResource;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public final class VanillaPluginPlatform implements PluginPlatform {
 
+    private static final int MAX_DISCOVERY_THREADS = 8;
+
     private final PluginEnvironment pluginEnvironment;
     private final Map<String, PluginResourceLocatorService<PluginResource>> locatorServices;
     private final Map<String, PluginLanguageService<PluginResource>> languageServices;
@@ -162,33 +172,112 @@ public void discoverLanguageServices() {
     }
 
     public void locatePluginResources() {
-        for (final Map.Entry<String, PluginResourceLocatorService<PluginResource>> locatorEntry : this.locatorServices.entrySet()) {
-            final PluginResourceLocatorService<PluginResource> locatorService = locatorEntry.getValue();
-            final Set<PluginResource> resources = locatorService.locatePluginResources(this.pluginEnvironment);
-            if (!resources.isEmpty()) {
-                this.locatorResources.put(locatorEntry.getKey(), resources);
+        final ExecutorService executor = this.createDiscoveryExecutor(this.locatorServices.size());
+        try {
+            final Map<String, Future<Set<PluginResource>>> futures = new LinkedHashMap<>();
+            for (final Map.Entry<String, PluginResourceLocatorService<PluginResource>> locatorEntry : this.locatorServices.entrySet()) {
+                final PluginResourceLocatorService<PluginResource> locatorService = locatorEntry.getValue();
+                futures.put(locatorEntry.getKey(), executor.submit(() -> locatorService.locatePluginResources(this.pluginEnvironment)));
             }
+
+            for (final Map.Entry<String, Future<Set<PluginResource>>> entry : futures.entrySet()) {
+                final Set<PluginResource> resources = VanillaPluginPlatform.await(entry.getValue());
+                if (!resources.isEmpty()) {
+                    this.locatorResources.put(entry.getKey(), resources);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
     public void createPluginCandidates() {
-        for (final Map.Entry<String, PluginLanguageService<PluginResource>> languageEntry : this.languageServices.entrySet()) {
-            final PluginLanguageService<PluginResource> languageService = languageEntry.getValue();
-            for (final Map.Entry<String, Set<PluginResource>> resourcesEntry : this.locatorResources.entrySet()) {
-
-                for (final PluginResource pluginResource : resourcesEntry.getValue()) {
-                    try {
-                        final List<PluginCandidate<PluginResource>> candidates =
-                                languageService.createPluginCandidates(this.pluginEnvironment, pluginResource);
-                        if (candidates.isEmpty()) {
+        final PluginDiscoveryCache cache = new PluginDiscoveryCache(this.baseDirectory().resolve("caches").resolve("plugin-discovery.cache"),
+            this.logger());
+        cache.load();
+
+        int tasks = 0;
+        for (final Set<PluginResource> resources : this.locatorResources.values()) {
+            tasks += resources.size();
+        }
+        final ExecutorService executor = this.createDiscoveryExecutor(tasks * this.languageServices.size());
+        try {
+            // Submit in the same order the sequential scan used, and merge in that order, so that candidate order is stable
+            final Map<PluginLanguageService<PluginResource>, List<Future<List<PluginCandidate<PluginResource>>>>> futures = new LinkedHashMap<>();
+            for (final Map.Entry<String, PluginLanguageService<PluginResource>> languageEntry : this.languageServices.entrySet()) {
+                final PluginLanguageService<PluginResource> languageService = languageEntry.getValue();
+                final List<Future<List<PluginCandidate<PluginResource>>>> serviceFutures = new ArrayList<>();
+                for (final Map.Entry<String, Set<PluginResource>> resourcesEntry : this.locatorResources.entrySet()) {
+                    for (final PluginResource pluginResource : resourcesEntry.getValue()) {
+                        final Path path = pluginResource instanceof JVMPluginResource ? ((JVMPluginResource) pluginResource).path() : null;
+                        if (path != null && cache.isKnownEmpty(languageEntry.getKey(), path)) {
                             continue;
                         }
+                        serviceFutures.add(executor.submit(() -> {
+                            try {
+                                final List<PluginCandidate<PluginResource>> candidates =
+                                    languageService.createPluginCandidates(this.pluginEnvironment, pluginResource);
+                                if (candidates.isEmpty() && path != null) {
+                                    cache.markEmpty(languageEntry.getKey(), path);
+                                }
+                                return candidates;
+                            } catch (final ClassCastException ignored) {
+                                return Collections.<PluginCandidate<PluginResource>>emptyList();
+                            }
+                        }));
+                    }
+                }
+                futures.put(languageService, serviceFutures);
+            }
 
-                        this.pluginCandidates.computeIfAbsent(languageService, k -> new LinkedList<>()).addAll(candidates);
-                    } catch (ClassCastException ignored) {
+            for (final Map.Entry<PluginLanguageService<PluginResource>, List<Future<List<PluginCandidate<PluginResource>>>>> entry : futures.entrySet()) {
+                for (final Future<List<PluginCandidate<PluginResource>>> future : entry.getValue()) {
+                    final List<PluginCandidate<PluginResource>> candidates = VanillaPluginPlatform.await(future);
+                    if (candidates.isEmpty()) {
+                        continue;
                     }
+
+                    this.pluginCandidates.computeIfAbsent(entry.getKey(), k -> new LinkedList<>()).addAll(candidates);
                 }
             }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        cache.save();
+    }
+
+    private ExecutorService createDiscoveryExecutor(final int tasks) {
+        final int threads = Math.max(1, Math.min(tasks, Math.min(VanillaPluginPlatform.MAX_DISCOVERY_THREADS,
+            Runtime.getRuntime().availableProcessors())));
+        // Language services and locators may rely on the context class loader of the launching thread
+        final ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        return Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge - Plugin Discovery Thread #%d")
+            .setThreadFactory(runnable -> {
+                final Thread thread = new Thread(runnable);
+                thread.setContextClassLoader(contextLoader);
+                return thread;
+            })
+            .build());
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while discovering plugins", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
         }
     }
 }
@@ -28,6 +28,7 @@
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.spongepowered.common.launch.plugin.DummyPluginContainer;
 import org.spongepowered.common.launch.plugin.SpongePluginManager;
+import org.spongepowered.common.util.StartupProfiler;
 import org.spongepowered.plugin.InvalidPluginException;
 import org.spongepowered.plugin.PluginCandidate;
 import org.spongepowered.plugin.PluginContainer;
@@ -132,7 +133,7 @@ public void loadPlugins(final VanillaPluginPlatform platform) {
                     continue;
                 }
 
-                try {
+                try (final StartupProfiler.Section ignored = StartupProfiler.section(StartupProfiler.PLUGIN, plugin.metadata().id() + " load")) {
                     pluginLoader.loadPlugin(platform.getPluginEnvironment(), plugin, VanillaLaunch.instance().getClass().getClassLoader());
                     this.addPlugin(plugin);
                 } catch (final InvalidPluginException e) {
@@ -108,6 +108,7 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FutureUtil;
 import org.spongepowered.common.world.server.SpongeWorldManager;
+import org.spongepowered.common.world.server.WorldDirectoryOperations;
 import org.spongepowered.common.world.server.SpongeWorldTemplate;
 
 import java.io.BufferedWriter;
@@ -115,23 +116,22 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -142,6 +142,11 @@ public final class VanillaWorldManager implements SpongeWorldManager {
     private final MinecraftServer server;
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    private final WorldDirectoryOperations directoryOperations;
+    // Worlds whose directory is being copied into, moved or deleted
+    private final Set<net.minecraft.resources.ResourceKey<Level>> busyWorlds;
+    // Loaded worlds whose directory is being copied from, these are kept loaded with saving suspended
+    private final Set<net.minecraft.resources.ResourceKey<Level>> copiedWorlds;
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", (i, o) -> i.compareTo(o));
 
@@ -161,6 +166,9 @@ public VanillaWorldManager(final MinecraftServer server) {
             throw new RuntimeException(e);
         }
         this.worlds = ((MinecraftServerAccessor) this.server).accessor$levels();
+        this.directoryOperations = new WorldDirectoryOperations();
+        this.busyWorlds = ConcurrentHashMap.newKeySet();
+        this.copiedWorlds = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -288,6 +296,10 @@ public boolean worldExists(final ResourceKey key) {
             return true;
         }
 
+        if (this.busyWorlds.contains(registryKey)) {
+            return false;
+        }
+
         if (this.worlds.get(registryKey) != null) {
             return true;
         }
@@ -317,6 +329,9 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
         if (Level.OVERWORLD.equals(registryKey)) {
             FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
         }
+        if (this.busyWorlds.contains(registryKey)) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is being copied, moved or deleted!", key)));
+        }
         final ServerLevel serverWorld = this.worlds.get(registryKey);
         if (serverWorld != null) {
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) serverWorld);
@@ -335,6 +350,10 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
         }
 
+        if (this.busyWorlds.contains(registryKey)) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is being copied, moved or deleted!", key)));
+        }
+
         final ServerLevel world = this.worlds.get(registryKey);
         if (world != null) {
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) world);
@@ -458,6 +477,10 @@ public CompletableFuture<Boolean> unloadWorld(final org.spongepowered.api.world.
             return CompletableFuture.completedFuture(false);
         }
 
+        if (this.copiedWorlds.contains(registryKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         try {
             this.unloadWorld0((ServerLevel) world);
         } catch (final IOException e) {
@@ -629,10 +652,20 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         }
 
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+        final Set<net.minecraft.resources.ResourceKey<Level>> sourceKeys = loadedWorld == null ? this.busyWorlds : this.copiedWorlds;
+        if (!sourceKeys.add(registryKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (!this.busyWorlds.add(copyRegistryKey)) {
+            sourceKeys.remove(registryKey);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        final boolean disableLevelSaving = loadedWorld != null && loadedWorld.noSave;
 
         if (loadedWorld != null) {
-            disableLevelSaving = loadedWorld.noSave;
+            // Write everything out now, then keep the world from saving (and unloading chunks into the region files)
+            // until its files are copied
             loadedWorld.save(null, true, loadedWorld.noSave);
             loadedWorld.noSave = true;
         }
@@ -650,89 +683,71 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         final Path copyDirectory = isVanillaCopyWorld ? this.defaultWorldDirectory
                 .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(copyKey.namespace()).resolve(copyKey.value());
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
+
+        final CompletableFuture<Void> copy = this.directoryOperations.copyDirectory(originalDirectory, copyDirectory, dir -> {
+                    final String name = dir.getFileName().toString();
                     // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
+                    if (name.equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                        return true;
                     }
-
                     // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && VanillaWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                    return isDefaultWorld && this.isVanillaSubWorld(name);
+                }, file -> {
                     final String fileName = file.getFileName().toString();
                     // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
-
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.deleteIfExists(copyDirectory);
-            } catch (final IOException ignore) {
-            }
-
-            return FutureUtil.completedWithException(e);
-        }
+                    return fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) || fileName.equals(Constants.World.LEVEL_DAT_OLD);
+                }, String.format("Copying world '%s' to '%s'", key, copyKey));
 
         if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
-
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
-
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.copy(dimensionTemplate, copiedDimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        final JsonObject fixedObject;
-        try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
-            final JsonParser parser = new JsonParser();
-            final JsonElement element = parser.parse(reader);
-
-            final JsonObject root = element.getAsJsonObject();
-            final JsonObject spongeData = root.getAsJsonObject("#sponge");
-            spongeData.remove("unique_id");
-            fixedObject = root;
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (fixedObject != null) {
-            try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
-                writer.write(fixedObject.toString());
-            } catch (final IOException e) {
-                FutureUtil.completedWithException(e);
-            }
-        }
+            copy.whenComplete((result, throwable) -> this.server.execute(() -> {
+                loadedWorld.noSave = disableLevelSaving;
+                this.copiedWorlds.remove(registryKey);
+            }));
+        }
+
+        return copy.handle((result, throwable) -> throwable)
+                .thenCompose(throwable -> {
+                    if (throwable != null) {
+                        // Bail the whole deal if we hit IO problems!
+                        return this.directoryOperations.deleteDirectory(copyDirectory, String.format("Cleaning up copy of world '%s'", key))
+                                .<Boolean>handle((result, cleanupThrowable) -> {
+                                    throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+                                });
+                    }
+                    return CompletableFuture.supplyAsync(() -> {
+                        try {
+                            Files.createDirectories(copiedDimensionTemplate.getParent());
+                            Files.copy(dimensionTemplate, copiedDimensionTemplate);
+
+                            final JsonObject fixedObject;
+                            try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate);
+                                 final InputStreamReader reader = new InputStreamReader(stream)) {
+                                final JsonParser parser = new JsonParser();
+                                final JsonElement element = parser.parse(reader);
+
+                                final JsonObject root = element.getAsJsonObject();
+                                final JsonObject spongeData = root.getAsJsonObject("#sponge");
+                                spongeData.remove("unique_id");
+                                fixedObject = root;
+                            }
 
-        return CompletableFuture.completedFuture(true);
+                            try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
+                                writer.write(fixedObject.toString());
+                            }
+                        } catch (final IOException e) {
+                            throw new CompletionException(e);
+                        }
+                        return true;
+                    }, this.directoryOperations.executor());
+                })
+                .whenComplete((result, throwable) -> {
+                    if (loadedWorld == null) {
+                        this.busyWorlds.remove(registryKey);
+                    }
+                    this.busyWorlds.remove(copyRegistryKey);
+                });
     }
 
     @Override
@@ -751,11 +766,26 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (this.copiedWorlds.contains(registryKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        final net.minecraft.resources.ResourceKey<Level> movedRegistryKey = SpongeWorldManager.createRegistryKey(movedKey);
+        if (!this.busyWorlds.add(registryKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (!this.busyWorlds.add(movedRegistryKey)) {
+            this.busyWorlds.remove(registryKey);
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             try {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
+                this.busyWorlds.remove(registryKey);
+                this.busyWorlds.remove(movedRegistryKey);
                 return FutureUtil.completedWithException(e);
             }
         }
@@ -770,14 +800,7 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final String moveDirectoryName = this.getDirectoryName(movedKey);
 
         final Path moveDirectory = isVanillaMoveWorld ? this.defaultWorldDirectory
-                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
-
-        try {
-            Files.createDirectories(moveDirectory);
-            Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(movedKey.namespace()).resolve(movedKey.value());
 
         final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key
                 .namespace()).resolve(key.value() + ".conf");
@@ -785,24 +808,26 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path copiedConfigFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds")
                 .resolve(movedKey.namespace()).resolve(movedKey.value() + ".conf");
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
         final Path copiedDimensionTemplate = this.getDataPackFile(movedKey);
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+        return this.directoryOperations.moveDirectory(originalDirectory, moveDirectory, String.format("Moving world '%s' to '%s'", key, movedKey))
+                .thenApplyAsync(v -> {
+                    try {
+                        Files.createDirectories(copiedConfigFile.getParent());
+                        Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
 
-        return CompletableFuture.completedFuture(true);
+                        Files.createDirectories(copiedDimensionTemplate.getParent());
+                        Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (final IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    return true;
+                }, this.directoryOperations.executor())
+                .whenComplete((result, throwable) -> {
+                    this.busyWorlds.remove(registryKey);
+                    this.busyWorlds.remove(movedRegistryKey);
+                });
     }
 
     @Override
@@ -817,6 +842,14 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture(false);
         }
 
+        if (this.copiedWorlds.contains(registryKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        if (!this.busyWorlds.add(registryKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             final boolean disableLevelSaving = loadedWorld.noSave;
@@ -825,6 +858,7 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
                 loadedWorld.noSave = disableLevelSaving;
+                this.busyWorlds.remove(registryKey);
                 return FutureUtil.completedWithException(e);
             }
         }
@@ -834,34 +868,22 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
 
         final Path directory = isVanillaWorld ? this.defaultWorldDirectory.resolve(directoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
 
-        if (Files.exists(directory)) {
-            try {
-                for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
-                    Files.deleteIfExists(path);
-                }
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
-
         final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key.namespace())
             .resolve(key.value() + ".conf");
 
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
 
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        return this.directoryOperations.deleteDirectory(directory, String.format("Deleting world '%s'", key))
+                .thenApplyAsync(v -> {
+                    try {
+                        Files.deleteIfExists(configFile);
+                        Files.deleteIfExists(dimensionTemplate);
+                    } catch (final IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    return true;
+                }, this.directoryOperations.executor())
+                .whenComplete((result, throwable) -> this.busyWorlds.remove(registryKey));
     }
 
     @Override
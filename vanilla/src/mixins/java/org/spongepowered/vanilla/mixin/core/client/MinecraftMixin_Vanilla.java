@@ -39,6 +39,7 @@
 import org.spongepowered.common.bridge.client.MinecraftBridge;
 import org.spongepowered.common.applaunch.config.core.ConfigHandle;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.util.StartupProfiler;
 import org.spongepowered.vanilla.client.VanillaClient;
 
 import javax.annotation.Nullable;
@@ -54,20 +55,21 @@ public abstract class MinecraftMixin_Vanilla implements VanillaClient {
         ConfigHandle.setSaveSuppressed(false);
 
         final SpongeLifecycle lifecycle = SpongeBootstrap.lifecycle();
-        lifecycle.callStartedEngineEvent(this);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callStartedEngineEvent", () -> lifecycle.callStartedEngineEvent(this));
         
-        lifecycle.callLoadedGameEvent();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callLoadedGameEvent", lifecycle::callLoadedGameEvent);
+        StartupProfiler.finish();
     }
 
     @Inject(method = "run", at = @At("HEAD"))
     private void vanilla$establishRegistriesAndStartingEngine(CallbackInfo ci) {
         final SpongeLifecycle lifecycle = SpongeBootstrap.lifecycle();
-        lifecycle.establishGlobalRegistries();
-        lifecycle.establishDataProviders();
-        lifecycle.callRegisterDataEvent();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishGlobalRegistries", lifecycle::establishGlobalRegistries);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishDataProviders", lifecycle::establishDataProviders);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callRegisterDataEvent", lifecycle::callRegisterDataEvent);
 
-        lifecycle.establishClientRegistries(this);
-        lifecycle.callStartingEngineEvent(this);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishClientRegistries", () -> lifecycle.establishClientRegistries(this));
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callStartingEngineEvent", () -> lifecycle.callStartingEngineEvent(this));
     }
 
     @Inject(method = "destroy", at = @At("HEAD"))
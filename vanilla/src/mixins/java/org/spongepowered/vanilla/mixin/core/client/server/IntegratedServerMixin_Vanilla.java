@@ -45,6 +45,7 @@
 import org.spongepowered.common.SpongeLifecycle;
 import org.spongepowered.common.bridge.client.MinecraftBridge;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
+import org.spongepowered.common.util.StartupProfiler;
 import org.spongepowered.vanilla.VanillaServer;
 import org.spongepowered.vanilla.mixin.core.server.MinecraftServerMixin_Vanilla;
 
@@ -66,18 +67,18 @@ public abstract class IntegratedServerMixin_Vanilla extends MinecraftServerMixin
     @Inject(method = "initServer", at = @At("HEAD"))
     private void vanilla$runEngineStartLifecycle(final CallbackInfoReturnable<Boolean> cir) {
         final SpongeLifecycle lifecycle = SpongeBootstrap.lifecycle();
-        lifecycle.establishServerServices();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishServerServices", lifecycle::establishServerServices);
 
-        lifecycle.establishServerFeatures();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishServerFeatures", lifecycle::establishServerFeatures);
 
-        lifecycle.establishServerRegistries(this);
-        lifecycle.callStartingEngineEvent(this);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishServerRegistries", () -> lifecycle.establishServerRegistries(this));
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callStartingEngineEvent", () -> lifecycle.callStartingEngineEvent(this));
     }
 
     @Inject(method = "initServer", at = @At("RETURN"))
     private void vanilla$callStartedEngineAndLoadedGame(final CallbackInfoReturnable<Boolean> cir) {
         final SpongeLifecycle lifecycle = SpongeBootstrap.lifecycle();
-        lifecycle.callStartedEngineEvent(this);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callStartedEngineEvent", () -> lifecycle.callStartedEngineEvent(this));
     }
 
     @Override
@@ -35,6 +35,7 @@
 import org.spongepowered.common.SpongeBootstrap;
 import org.spongepowered.common.SpongeLifecycle;
 import org.spongepowered.common.applaunch.config.core.ConfigHandle;
+import org.spongepowered.common.util.StartupProfiler;
 import org.spongepowered.vanilla.VanillaServer;
 import org.spongepowered.vanilla.mixin.core.server.MinecraftServerMixin_Vanilla;
 
@@ -48,21 +49,22 @@ public abstract class DedicatedServerMixin_Vanilla extends MinecraftServerMixin_
         ConfigHandle.setSaveSuppressed(false);
 
         final SpongeLifecycle lifecycle = SpongeBootstrap.lifecycle();
-        lifecycle.establishServerServices();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishServerServices", lifecycle::establishServerServices);
 
 
-        lifecycle.establishServerFeatures();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishServerFeatures", lifecycle::establishServerFeatures);
 
-        lifecycle.establishServerRegistries(this);
-        lifecycle.callStartingEngineEvent(this);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "establishServerRegistries", () -> lifecycle.establishServerRegistries(this));
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callStartingEngineEvent", () -> lifecycle.callStartingEngineEvent(this));
     }
 
     @Inject(method = "initServer", at = @At("RETURN"))
     private void vanilla$callStartedEngineAndLoadedGame(final CallbackInfoReturnable<Boolean> cir) {
         final SpongeLifecycle lifecycle = SpongeBootstrap.lifecycle();
-        lifecycle.callStartedEngineEvent(this);
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callStartedEngineEvent", () -> lifecycle.callStartedEngineEvent(this));
 
-        lifecycle.callLoadedGameEvent();
+        StartupProfiler.run(StartupProfiler.LIFECYCLE, "callLoadedGameEvent", lifecycle::callLoadedGameEvent);
+        StartupProfiler.finish();
     }
 
     @Override